@@ -4,17 +4,43 @@ plugins {
     id("java")
     id("application")
     id("com.gradleup.shadow") version "9.4.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "ovh.neziw.visualizer"
 version = "1.0-SNAPSHOT"
 
+// the Vector API kernel is only built when Gradle itself runs on JDK 17+; otherwise the jar carries the
+// scalar kernel alone and RegressionKernels falls back to it at runtime
+val vectorKernel = JavaVersion.current().isCompatibleWith(JavaVersion.VERSION_17)
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs = listOf("-Xlint:deprecation")
     options.encoding = "UTF-8"
 }
 
+tasks.named<JavaCompile>("compileVectorJava") {
+    enabled = vectorKernel
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
+tasks.named<JavaExec>("run") {
+    classpath(vector.output)
+    if (vectorKernel) {
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+    }
+}
+
 tasks.withType<ShadowJar> {
+    from(vector.output)
     archiveFileName.set("${project.name} ${project.version}.jar")
     exclude(
         "org/intellij/lang/annotations/**",
@@ -55,6 +81,26 @@ dependencies {
     implementation("com.google.code.gson:gson:2.13.2")
     implementation("org.apache.poi:poi:5.5.1")
     implementation("org.apache.poi:poi-ooxml:5.5.1")
+    "jmhRuntimeOnly"(vector.output)
+
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+    classpath += vector.output
+    if (vectorKernel) {
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+    }
+}
+
+jmh {
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    jvmArgsAppend.set(listOf("-Xmx6g", "-Djava.awt.headless=true")
+        + if (vectorKernel) listOf("--add-modules", "jdk.incubator.vector") else emptyList())
 }
 
 tasks.build {
@@ -0,0 +1,78 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.benchmark;
+
+import java.util.Random;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.DataTableModel;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
+
+final class BenchmarkData {
+
+    private static final double SLOPE = 2.5;
+    private static final double INTERCEPT = -4.0;
+    private static final double MISSING_RATIO = 0.05;
+
+    private BenchmarkData() {
+    }
+
+    static DataColumns createColumns(final int size, final Random random) {
+        final DataColumns columns = new DataColumns(size);
+        columns.setSize(size);
+        for (int row = 0; row < size; row++) {
+            final double x = random.nextDouble() * 1000.0;
+            columns.setX(row, x);
+            if (random.nextDouble() >= MISSING_RATIO) {
+                columns.setY(row, SLOPE * x + INTERCEPT + random.nextGaussian());
+            }
+        }
+        return columns;
+    }
+
+    static PredictorMatrix createPredictors(final int size, final int predictorCount, final Random random) {
+        final PredictorMatrix matrix = new PredictorMatrix(predictorCount, size);
+        final double[] predictors = new double[predictorCount];
+        for (int row = 0; row < size; row++) {
+            double response = INTERCEPT + random.nextGaussian();
+            for (int predictor = 0; predictor < predictorCount; predictor++) {
+                predictors[predictor] = random.nextDouble() * 1000.0;
+                response += SLOPE * (predictor + 1) * predictors[predictor];
+            }
+            matrix.addRow(random.nextDouble() >= MISSING_RATIO ? response : Double.NaN, predictors);
+        }
+        return matrix;
+    }
+
+    static DataTableModel createModel(final int size, final Random random) {
+        final DataTableModel model = new DataTableModel();
+        final double[] xValues = new double[size];
+        final double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = random.nextDouble() * 1000.0;
+            yValues[i] = SLOPE * xValues[i] + INTERCEPT + random.nextGaussian();
+        }
+        model.appendPoints(xValues, yValues, size);
+        return model;
+    }
+}
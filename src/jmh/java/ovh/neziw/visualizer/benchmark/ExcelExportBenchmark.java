@@ -0,0 +1,83 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.io.ExcelExporter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    @Param({"100", "10000", "100000", "500000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean streaming;
+
+    private ExcelExporter exporter;
+    private PointColumns columns;
+    private File outputFile;
+
+    @Setup
+    public void setup() throws IOException {
+        this.exporter = new ExcelExporter(this.streaming ? 0 : Integer.MAX_VALUE);
+        this.columns = BenchmarkData.createColumns(this.size, new Random(42));
+        this.outputFile = File.createTempFile("regression-benchmark", ".xlsx");
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.outputFile.delete();
+    }
+
+    @Benchmark
+    public long exportToExcel() throws IOException {
+        try (final FileOutputStream outputStream = new FileOutputStream(this.outputFile)) {
+            this.exporter.exportToExcel(outputStream, this.columns);
+        }
+        return this.outputFile.length();
+    }
+}
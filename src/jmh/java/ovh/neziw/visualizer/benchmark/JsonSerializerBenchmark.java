@@ -0,0 +1,83 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ovh.neziw.visualizer.serialization.ChartSettingsData;
+import ovh.neziw.visualizer.serialization.JsonDataSerializer;
+import ovh.neziw.visualizer.serialization.SavedData;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializerBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private JsonDataSerializer serializer;
+    private SavedData savedData;
+    private String json;
+
+    @Setup
+    public void setup() {
+        this.serializer = new JsonDataSerializer();
+        this.savedData = new SavedData(
+            BenchmarkData.createColumns(this.size, new Random(42)),
+            new ChartSettingsData()
+        );
+        this.json = this.serializer.serialize(this.savedData);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return this.serializer.serialize(this.savedData);
+    }
+
+    @Benchmark
+    public SavedData deserialize() throws IOException {
+        return this.serializer.deserialize(this.json);
+    }
+
+    @Benchmark
+    public SavedData roundTrip() throws IOException {
+        return this.serializer.deserialize(this.serializer.serialize(this.savedData));
+    }
+}
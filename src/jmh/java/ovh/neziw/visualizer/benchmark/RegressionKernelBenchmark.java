@@ -0,0 +1,93 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.regression.RegressionKernel;
+import ovh.neziw.visualizer.regression.RegressionKernels;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegressionKernelBenchmark {
+
+    @Param({"10000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"scalar", "vector"})
+    private String kernelName;
+
+    private DataColumns columns;
+    private RegressionKernel kernel;
+    private double shiftX;
+    private double shiftY;
+
+    @Setup
+    public void setup() {
+        this.kernel = "vector".equals(this.kernelName) ? RegressionKernels.vector() : RegressionKernels.scalar();
+        if (this.kernel == null) {
+            throw new IllegalStateException("Vector kernel unavailable; build and run on JDK 17+ with "
+                + "--add-modules jdk.incubator.vector");
+        }
+        this.columns = BenchmarkData.createColumns(this.size, new Random(42));
+        final RegressionStatistics statistics = RegressionEngine.WELFORD.accumulate(this.columns);
+        this.shiftX = statistics.getMeanX();
+        this.shiftY = statistics.getMeanY();
+    }
+
+    @Benchmark
+    public double[] rawSums() {
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        this.kernel.accumulate(this.columns.getXValues(), this.columns.getYValues(), this.columns.getXPresent(),
+            this.columns.getYPresent(), 0, this.size, 0.0, 0.0, sums);
+        return sums;
+    }
+
+    // the shifted form the Welford engine runs per block
+    @Benchmark
+    public double[] shiftedSums() {
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        this.kernel.accumulate(this.columns.getXValues(), this.columns.getYValues(), this.columns.getXPresent(),
+            this.columns.getYPresent(), 0, this.size, this.shiftX, this.shiftY, sums);
+        return sums;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+public final class ChunkedTask<T> extends RecursiveTask<T> {
+
+    public static final int MIN_CHUNK_SIZE = 1 << 14;
+    public static final int CHUNKS_PER_THREAD = 4;
+
+    private final Chunk<T> chunk;
+    private final BinaryOperator<T> merge;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    private ChunkedTask(final Chunk<T> chunk, final BinaryOperator<T> merge,
+                        final int from, final int to, final int chunkSize) {
+        this.chunk = chunk;
+        this.merge = merge;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    public static <T> T invoke(final int size, final int parallelThreshold,
+                               final Chunk<T> chunk, final BinaryOperator<T> merge) {
+        return invoke(size, parallelThreshold, MIN_CHUNK_SIZE, CHUNKS_PER_THREAD, chunk, merge);
+    }
+
+    // below the threshold, or without a second core, the whole range is a single chunk on the caller's thread
+    public static <T> T invoke(final int size, final int parallelThreshold, final int minChunkSize,
+                               final int chunksPerThread, final Chunk<T> chunk, final BinaryOperator<T> merge) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (size < parallelThreshold || pool.getParallelism() < 2) {
+            return chunk.compute(0, size);
+        }
+        final int chunkSize = chunkSize(pool, size, minChunkSize, chunksPerThread);
+        return pool.invoke(new ChunkedTask<>(chunk, merge, 0, size, chunkSize));
+    }
+
+    public static int chunkSize(final ForkJoinPool pool, final int size, final int minChunkSize,
+                                final int chunksPerThread) {
+        return Math.max(minChunkSize, size / (pool.getParallelism() * chunksPerThread));
+    }
+
+    @Override
+    protected T compute() {
+        if (this.to - this.from <= this.chunkSize) {
+            return this.chunk.compute(this.from, this.to);
+        }
+        // splits stay on 64-row boundaries so no two chunks share a word of a presence bitset
+        final int middle = (this.from + ((this.to - this.from) >>> 1)) & ~63;
+        final ChunkedTask<T> left = new ChunkedTask<>(this.chunk, this.merge, this.from, middle, this.chunkSize);
+        final ChunkedTask<T> right = new ChunkedTask<>(this.chunk, this.merge, middle, this.to, this.chunkSize);
+        left.fork();
+        final T result = right.compute();
+        return this.merge.apply(result, left.join());
+    }
+
+    @FunctionalInterface
+    public interface Chunk<T> {
+
+        T compute(int from, int to);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// an immutable view of DataColumns that shares its arrays: before the owner changes a chunk of rows,
+// it copies the chunk into its newest snapshot, so taking a snapshot is O(1) and an edit copies only
+// the chunk it touches; older snapshots look through the newer ones for chunks preserved after them
+final class ColumnsSnapshot implements PointColumns {
+
+    static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+    private static final int WORD_SHIFT = CHUNK_SHIFT - 6;
+    private static final int CHUNK_WORDS = 1 << WORD_SHIFT;
+
+    private final double[] xValues;
+    private final double[] yValues;
+    private final long[] xPresent;
+    private final long[] yPresent;
+    private final long[] groupValues;
+    private final long[] groupPresent;
+    private final int size;
+    // rows any snapshot of the chain can read, chunks past them need no copy
+    private final int coveredRows;
+    private final AtomicReferenceArray<Chunk> chunks;
+    private volatile ColumnsSnapshot next;
+    // computed at most a few times when threads race, each storing the same value
+    private volatile int validCount = -1;
+
+    ColumnsSnapshot(final double[] xValues, final double[] yValues, final long[] xPresent, final long[] yPresent,
+                    final long[] groupValues, final long[] groupPresent, final int size,
+                    final ColumnsSnapshot previous) {
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.xPresent = xPresent;
+        this.yPresent = yPresent;
+        this.groupValues = groupValues;
+        this.groupPresent = groupPresent;
+        this.size = size;
+        this.coveredRows = previous == null ? size : Math.max(size, previous.coveredRows);
+        this.chunks = new AtomicReferenceArray<>((xValues.length + CHUNK_ROWS - 1) >>> CHUNK_SHIFT);
+        if (previous != null) {
+            previous.next = this;
+        }
+    }
+
+    // called by the owner before it changes any row in [from, to)
+    void preserve(final int from, final int to) {
+        final int end = Math.min(to, this.coveredRows);
+        if (from >= end) {
+            return;
+        }
+        for (int chunk = from >>> CHUNK_SHIFT; chunk <= (end - 1) >>> CHUNK_SHIFT; chunk++) {
+            if (this.chunks.get(chunk) == null) {
+                this.chunks.set(chunk, new Chunk(this, chunk));
+                // readers that see a later store to the live arrays must also see the copy
+                VarHandle.releaseFence();
+            }
+        }
+    }
+
+    private Chunk preserved(final int chunk) {
+        for (ColumnsSnapshot snapshot = this; snapshot != null; snapshot = snapshot.next) {
+            final Chunk preserved = snapshot.chunks.get(chunk);
+            if (preserved != null) {
+                return preserved;
+            }
+        }
+        return null;
+    }
+
+    // a live value is only trusted when its chunk was still not preserved after reading it
+    private long word(final long[] live, final int column, final int word) {
+        final int chunk = word >>> WORD_SHIFT;
+        Chunk preserved = this.preserved(chunk);
+        if (preserved == null) {
+            final long value = live[word];
+            VarHandle.acquireFence();
+            preserved = this.preserved(chunk);
+            if (preserved == null) {
+                return value;
+            }
+        }
+        return preserved.presence[column][word & (CHUNK_WORDS - 1)];
+    }
+
+    private double value(final double[] live, final int column, final int row) {
+        final int chunk = row >>> CHUNK_SHIFT;
+        Chunk preserved = this.preserved(chunk);
+        if (preserved == null) {
+            final double value = live[row];
+            VarHandle.acquireFence();
+            preserved = this.preserved(chunk);
+            if (preserved == null) {
+                return value;
+            }
+        }
+        return preserved.values[column][row & (CHUNK_ROWS - 1)];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean hasX(final int row) {
+        return (this.word(this.xPresent, Chunk.X, row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean hasY(final int row) {
+        return (this.word(this.yPresent, Chunk.Y, row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean isValid(final int row) {
+        return this.hasX(row) && this.hasY(row);
+    }
+
+    @Override
+    public double getX(final int row) {
+        return this.value(this.xValues, Chunk.X, row);
+    }
+
+    @Override
+    public double getY(final int row) {
+        return this.value(this.yValues, Chunk.Y, row);
+    }
+
+    @Override
+    public boolean hasGroups() {
+        return this.groupPresent != null;
+    }
+
+    @Override
+    public boolean hasGroup(final int row) {
+        return this.groupPresent != null
+            && (this.word(this.groupPresent, Chunk.GROUP, row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public long getGroup(final int row) {
+        if (this.groupValues == null) {
+            return 0L;
+        }
+        final int chunk = row >>> CHUNK_SHIFT;
+        Chunk preserved = this.preserved(chunk);
+        if (preserved == null) {
+            final long value = this.groupValues[row];
+            VarHandle.acquireFence();
+            preserved = this.preserved(chunk);
+            if (preserved == null) {
+                return value;
+            }
+        }
+        return preserved.groupValues[row & (CHUNK_ROWS - 1)];
+    }
+
+    @Override
+    public int countValid() {
+        if (this.validCount >= 0) {
+            return this.validCount;
+        }
+        int count = 0;
+        final int words = (this.size + 63) >>> 6;
+        for (int i = 0; i < words; i++) {
+            long bits = this.word(this.xPresent, Chunk.X, i) & this.word(this.yPresent, Chunk.Y, i);
+            if (i == words - 1 && (this.size & 63) != 0) {
+                bits &= (1L << this.size) - 1;
+            }
+            count += Long.bitCount(bits);
+        }
+        this.validCount = count;
+        return count;
+    }
+
+    @Override
+    public ColumnsSnapshot snapshot() {
+        return this;
+    }
+
+    private static final class Chunk {
+
+        static final int X = 0;
+        static final int Y = 1;
+        static final int GROUP = 2;
+
+        final double[][] values;
+        final long[][] presence;
+        final long[] groupValues;
+
+        Chunk(final ColumnsSnapshot snapshot, final int chunk) {
+            final int from = chunk << CHUNK_SHIFT;
+            final int rows = Math.min(CHUNK_ROWS, snapshot.xValues.length - from);
+            final int firstWord = chunk << WORD_SHIFT;
+            final int words = Math.min(CHUNK_WORDS, snapshot.xPresent.length - firstWord);
+            this.values = new double[][] {
+                copy(snapshot.xValues, from, rows), copy(snapshot.yValues, from, rows)
+            };
+            this.presence = new long[][] {
+                copy(snapshot.xPresent, firstWord, words), copy(snapshot.yPresent, firstWord, words),
+                snapshot.groupPresent == null ? null : copy(snapshot.groupPresent, firstWord, words)
+            };
+            this.groupValues = snapshot.groupValues == null ? null : copy(snapshot.groupValues, from, rows);
+        }
+
+        private static double[] copy(final double[] source, final int from, final int length) {
+            final double[] copy = new double[length];
+            System.arraycopy(source, from, copy, 0, length);
+            return copy;
+        }
+
+        private static long[] copy(final long[] source, final int from, final int length) {
+            final long[] copy = new long[length];
+            System.arraycopy(source, from, copy, 0, length);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import java.util.Arrays;
+
+public final class DataColumns implements PointColumns {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] xValues;
+    private double[] yValues;
+    private long[] xPresent;
+    private long[] yPresent;
+    private long[] groupValues;
+    private long[] groupPresent;
+    private int size;
+    // the newest snapshot still sharing the arrays, and whether anything changed since it was taken
+    private ColumnsSnapshot snapshot;
+    private boolean modified;
+
+    public DataColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public DataColumns(final int capacity) {
+        final int initialCapacity = Math.max(capacity, 1);
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.xPresent = new long[wordCount(initialCapacity)];
+        this.yPresent = new long[wordCount(initialCapacity)];
+    }
+
+    private static int wordCount(final int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public void setSize(final int newSize) {
+        if (newSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + newSize);
+        }
+        if (newSize > this.size) {
+            this.ensureCapacity(newSize);
+        } else {
+            this.clearFrom(newSize);
+        }
+        this.modified |= newSize != this.size;
+        this.size = newSize;
+    }
+
+    public void ensureCapacity(final int capacity) {
+        if (capacity <= this.xValues.length) {
+            return;
+        }
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8,
+            Math.max((long) capacity, this.xValues.length + ((long) this.xValues.length >> 1)));
+        // the old arrays stay with the snapshot and are never written again
+        this.snapshot = null;
+        this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+        this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        this.xPresent = Arrays.copyOf(this.xPresent, wordCount(newCapacity));
+        this.yPresent = Arrays.copyOf(this.yPresent, wordCount(newCapacity));
+        if (this.groupValues != null) {
+            this.groupValues = Arrays.copyOf(this.groupValues, newCapacity);
+            this.groupPresent = Arrays.copyOf(this.groupPresent, wordCount(newCapacity));
+        }
+    }
+
+    public double[] getXValues() {
+        return this.xValues;
+    }
+
+    public double[] getYValues() {
+        return this.yValues;
+    }
+
+    public long[] getXPresent() {
+        return this.xPresent;
+    }
+
+    public long[] getYPresent() {
+        return this.yPresent;
+    }
+
+    public long[] getGroupValues() {
+        this.ensureGroups();
+        return this.groupValues;
+    }
+
+    public long[] getGroupPresent() {
+        this.ensureGroups();
+        return this.groupPresent;
+    }
+
+    @Override
+    public boolean hasX(final int row) {
+        return (this.xPresent[row >>> 6] & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean hasY(final int row) {
+        return (this.yPresent[row >>> 6] & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean isValid(final int row) {
+        return ((this.xPresent[row >>> 6] & this.yPresent[row >>> 6]) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean hasGroups() {
+        return this.groupPresent != null;
+    }
+
+    @Override
+    public boolean hasGroup(final int row) {
+        return this.groupPresent != null && (this.groupPresent[row >>> 6] & (1L << row)) != 0;
+    }
+
+    @Override
+    public long getGroup(final int row) {
+        return this.groupValues == null ? 0L : this.groupValues[row];
+    }
+
+    @Override
+    public double getX(final int row) {
+        return this.xValues[row];
+    }
+
+    @Override
+    public double getY(final int row) {
+        return this.yValues[row];
+    }
+
+    public void setX(final int row, final double x) {
+        this.beforeWrite(row, row + 1);
+        this.xValues[row] = x;
+        this.xPresent[row >>> 6] |= 1L << row;
+    }
+
+    public void setY(final int row, final double y) {
+        this.beforeWrite(row, row + 1);
+        this.yValues[row] = y;
+        this.yPresent[row >>> 6] |= 1L << row;
+    }
+
+    public void setGroup(final int row, final long group) {
+        this.ensureGroups();
+        this.beforeWrite(row, row + 1);
+        this.groupValues[row] = group;
+        this.groupPresent[row >>> 6] |= 1L << row;
+    }
+
+    public void clearGroup(final int row) {
+        if (this.groupValues != null) {
+            this.beforeWrite(row, row + 1);
+            this.groupValues[row] = 0L;
+            this.groupPresent[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    public void clearX(final int row) {
+        this.beforeWrite(row, row + 1);
+        this.xValues[row] = 0.0;
+        this.xPresent[row >>> 6] &= ~(1L << row);
+    }
+
+    public void clearY(final int row) {
+        this.beforeWrite(row, row + 1);
+        this.yValues[row] = 0.0;
+        this.yPresent[row >>> 6] &= ~(1L << row);
+    }
+
+    public void clear() {
+        this.clearFrom(0);
+    }
+
+    @Override
+    public int countValid() {
+        int count = 0;
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(this.xPresent[i] & this.yPresent[i]);
+        }
+        return count;
+    }
+
+    // O(1): the snapshot shares the arrays, and later edits copy the chunks they change into it first
+    @Override
+    public PointColumns snapshot() {
+        if (this.snapshot == null || this.modified) {
+            this.snapshot = new ColumnsSnapshot(this.xValues, this.yValues, this.xPresent, this.yPresent,
+                this.groupValues, this.groupPresent, this.size, this.snapshot);
+            this.modified = false;
+        }
+        return this.snapshot;
+    }
+
+    public DataColumns copy() {
+        final DataColumns copy = new DataColumns(this.size);
+        System.arraycopy(this.xValues, 0, copy.xValues, 0, this.size);
+        System.arraycopy(this.yValues, 0, copy.yValues, 0, this.size);
+        System.arraycopy(this.xPresent, 0, copy.xPresent, 0, wordCount(this.size));
+        System.arraycopy(this.yPresent, 0, copy.yPresent, 0, wordCount(this.size));
+        if (this.groupValues != null) {
+            copy.ensureGroups();
+            System.arraycopy(this.groupValues, 0, copy.groupValues, 0, this.size);
+            System.arraycopy(this.groupPresent, 0, copy.groupPresent, 0, wordCount(this.size));
+        }
+        copy.size = this.size;
+        return copy;
+    }
+
+    // the group column is allocated on first use, so ungrouped data pays nothing for it
+    private void ensureGroups() {
+        if (this.groupValues == null) {
+            this.groupValues = new long[this.xValues.length];
+            this.groupPresent = new long[this.xPresent.length];
+        }
+    }
+
+    private void beforeWrite(final int from, final int to) {
+        this.modified = true;
+        if (this.snapshot != null) {
+            this.snapshot.preserve(from, to);
+        }
+    }
+
+    private void clearFrom(final int from) {
+        if (from >= this.size) {
+            return;
+        }
+        this.beforeWrite(from, this.size);
+        Arrays.fill(this.xValues, from, this.size, 0.0);
+        Arrays.fill(this.yValues, from, this.size, 0.0);
+        for (int row = from; row < this.size && (row & 63) != 0; row++) {
+            this.xPresent[row >>> 6] &= ~(1L << row);
+            this.yPresent[row >>> 6] &= ~(1L << row);
+        }
+        final int firstWord = wordCount(from);
+        Arrays.fill(this.xPresent, firstWord, this.xPresent.length, 0L);
+        Arrays.fill(this.yPresent, firstWord, this.yPresent.length, 0L);
+        if (this.groupValues != null) {
+            Arrays.fill(this.groupValues, from, this.size, 0L);
+            for (int row = from; row < this.size && (row & 63) != 0; row++) {
+                this.groupPresent[row >>> 6] &= ~(1L << row);
+            }
+            Arrays.fill(this.groupPresent, firstWord, this.groupPresent.length, 0L);
+        }
+    }
+}
@@ -25,30 +25,45 @@ package ovh.neziw.visualizer;
 
 import java.util.ArrayList;
 import java.util.List;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.AbstractTableModel;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
 
 public class DataTableModel extends AbstractTableModel {
 
-    private static final int ROW_COUNT = 30;
-    private static final String[] COLUMN_NAMES = {"X", "Y"};
+    private static final int MIN_ROW_COUNT = 30;
+    private static final int GROUP_COLUMN = 2;
+    private static final String[] COLUMN_NAMES = {"X", "Y", "Grupa"};
 
-    private final List<DataPoint> dataPoints;
+    private PointColumns columns;
+    private RegressionEngine regressionEngine;
+    private RegressionStatistics statistics;
+    // the group key column is shown for data that has groups, or when the user asks for it
+    private boolean groupColumnRequested;
+    private int batchDepth;
+    private int batchStartSize;
+    private int batchFirstRow;
+    private int batchLastRow;
+    private boolean batchDataChanged;
+    private boolean batchStructureChanged;
 
     public DataTableModel() {
-        this.dataPoints = new ArrayList<>();
-        for (int i = 0; i < ROW_COUNT; i++) {
-            this.dataPoints.add(new DataPoint());
-        }
+        final DataColumns initialColumns = new DataColumns(MIN_ROW_COUNT);
+        initialColumns.setSize(MIN_ROW_COUNT);
+        this.columns = initialColumns;
+        this.regressionEngine = LinearRegressionCalculator.DEFAULT_ENGINE;
+        this.statistics = this.regressionEngine.createStatistics();
     }
 
     @Override
     public int getRowCount() {
-        return ROW_COUNT;
+        return this.columns.size();
     }
 
     @Override
     public int getColumnCount() {
-        return COLUMN_NAMES.length;
+        return this.isGroupColumnVisible() ? COLUMN_NAMES.length : GROUP_COLUMN;
     }
 
     @Override
@@ -58,39 +73,39 @@ public class DataTableModel extends AbstractTableModel {
 
     @Override
     public Object getValueAt(final int rowIndex, final int columnIndex) {
-        final DataPoint point = this.dataPoints.get(rowIndex);
         if (columnIndex == 0) {
-            return point.getX() == null ? "" : point.getX();
+            return this.columns.hasX(rowIndex) ? this.columns.getX(rowIndex) : "";
+        } else if (columnIndex == GROUP_COLUMN) {
+            return this.columns.hasGroup(rowIndex) ? this.columns.getGroup(rowIndex) : "";
         } else {
-            return point.getY() == null ? "" : point.getY();
+            return this.columns.hasY(rowIndex) ? this.columns.getY(rowIndex) : "";
         }
     }
 
     @Override
     public void setValueAt(final Object aValue, final int rowIndex, final int columnIndex) {
-        final DataPoint point = this.dataPoints.get(rowIndex);
+        if (this.isReadOnly()) {
+            return;
+        }
         try {
-            if (columnIndex == 0) {
-                if (aValue == null || aValue.toString().trim().isEmpty()) {
-                    point.setX(null);
-                } else {
-                    point.setX(Double.parseDouble(aValue.toString().trim()));
-                }
+            if (aValue == null || aValue.toString().trim().isEmpty()) {
+                this.clearCell(rowIndex, columnIndex);
+            } else if (columnIndex == GROUP_COLUMN) {
+                ((DataColumns) this.columns).setGroup(rowIndex, Long.parseLong(aValue.toString().trim()));
             } else {
-                if (aValue == null || aValue.toString().trim().isEmpty()) {
-                    point.setY(null);
-                } else {
-                    point.setY(Double.parseDouble(aValue.toString().trim()));
-                }
+                this.setCell(rowIndex, columnIndex, Double.parseDouble(aValue.toString().trim()));
             }
             this.fireTableCellUpdated(rowIndex, columnIndex);
+            if (rowIndex == this.columns.size() - 1 && this.isRowUsed(rowIndex)) {
+                this.resize(rowIndex + 2);
+            }
         } catch (final NumberFormatException ignored) {
         }
     }
 
     @Override
     public boolean isCellEditable(final int rowIndex, final int columnIndex) {
-        return true;
+        return !this.isReadOnly();
     }
 
     @Override
@@ -98,38 +113,288 @@ public class DataTableModel extends AbstractTableModel {
         return String.class;
     }
 
+    @Override
+    public void fireTableChanged(final TableModelEvent e) {
+        if (this.batchDepth == 0) {
+            super.fireTableChanged(e);
+            return;
+        }
+        if (e.getFirstRow() == TableModelEvent.HEADER_ROW) {
+            this.batchStructureChanged = true;
+        } else if (e.getType() == TableModelEvent.UPDATE && e.getLastRow() != Integer.MAX_VALUE) {
+            this.batchFirstRow = Math.min(this.batchFirstRow, e.getFirstRow());
+            this.batchLastRow = Math.max(this.batchLastRow, e.getLastRow());
+        } else if (this.isTailChange(e)) {
+            // commitBatch replays the net size change; rows removed and added back in between may
+            // hold new values, so everything from here on counts as updated too
+            this.batchFirstRow = Math.min(this.batchFirstRow, e.getFirstRow());
+            this.batchLastRow = Integer.MAX_VALUE;
+        } else {
+            // any other insert, delete or whole-table update is replayed as one full refresh
+            this.batchDataChanged = true;
+        }
+    }
+
+    // the events arrive after the change, so rows added at or removed from the end line up with the size
+    private boolean isTailChange(final TableModelEvent e) {
+        final int size = this.columns.size();
+        return e.getType() == TableModelEvent.INSERT && e.getLastRow() == size - 1
+            || e.getType() == TableModelEvent.DELETE && e.getFirstRow() == size;
+    }
+
+    public void beginBatch() {
+        if (this.batchDepth++ == 0) {
+            this.batchStartSize = this.columns.size();
+            this.batchFirstRow = Integer.MAX_VALUE;
+            this.batchLastRow = -1;
+            this.batchDataChanged = false;
+            this.batchStructureChanged = false;
+        }
+    }
+
+    public void commitBatch() {
+        if (this.batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--this.batchDepth > 0) {
+            return;
+        }
+        if (this.batchStructureChanged) {
+            this.fireTableStructureChanged();
+            return;
+        }
+        if (this.batchDataChanged) {
+            this.fireTableDataChanged();
+            return;
+        }
+        final int oldSize = this.batchStartSize;
+        final int newSize = this.columns.size();
+        if (newSize < oldSize) {
+            this.fireTableRowsDeleted(newSize, oldSize - 1);
+        }
+        final int lastUpdatedRow = Math.min(this.batchLastRow, Math.min(oldSize, newSize) - 1);
+        if (this.batchFirstRow <= lastUpdatedRow) {
+            this.fireTableRowsUpdated(this.batchFirstRow, lastUpdatedRow);
+        }
+        if (newSize > oldSize) {
+            this.fireTableRowsInserted(oldSize, newSize - 1);
+        }
+    }
+
+    public PointColumns getColumns() {
+        return this.columns;
+    }
+
+    public boolean isGroupColumnVisible() {
+        return this.groupColumnRequested || this.columns.hasGroups();
+    }
+
+    public void setGroupColumnRequested(final boolean requested) {
+        final boolean wasVisible = this.isGroupColumnVisible();
+        this.groupColumnRequested = requested;
+        if (this.isGroupColumnVisible() != wasVisible) {
+            this.fireTableStructureChanged();
+        }
+    }
+
+    public boolean isReadOnly() {
+        return !(this.columns instanceof DataColumns);
+    }
+
+    public RegressionStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public RegressionEngine getRegressionEngine() {
+        return this.regressionEngine;
+    }
+
+    public void setRegressionEngine(final RegressionEngine regressionEngine) {
+        if (regressionEngine == null || regressionEngine == this.regressionEngine) {
+            return;
+        }
+        this.regressionEngine = regressionEngine;
+        this.statistics = regressionEngine.accumulate(this.columns);
+    }
+
     public List<DataPoint> getValidDataPoints() {
-        final List<DataPoint> validPoints = new ArrayList<>();
-        for (final DataPoint point : this.dataPoints) {
-            if (point.getX() != null && point.getY() != null) {
-                validPoints.add(new DataPoint(point.getX(), point.getY()));
+        final List<DataPoint> validPoints = new ArrayList<>(this.columns.countValid());
+        for (int row = 0; row < this.columns.size(); row++) {
+            if (this.columns.isValid(row)) {
+                validPoints.add(new DataPoint(this.columns.getX(row), this.columns.getY(row)));
             }
         }
         return validPoints;
     }
 
     public List<DataPoint> getAllDataPoints() {
-        return new ArrayList<>(this.dataPoints);
+        final List<DataPoint> points = new ArrayList<>(this.columns.size());
+        for (int row = 0; row < this.columns.size(); row++) {
+            points.add(new DataPoint(
+                this.columns.hasX(row) ? this.columns.getX(row) : null,
+                this.columns.hasY(row) ? this.columns.getY(row) : null
+            ));
+        }
+        return points;
     }
 
     public void setAllDataPoints(final List<DataPoint> points) {
         if (points == null) {
             return;
         }
-        for (final DataPoint dataPoint : this.dataPoints) {
-            dataPoint.setX(null);
-            dataPoint.setY(null);
-        }
-        final int maxRows = Math.min(points.size(), ROW_COUNT);
-        for (int i = 0; i < maxRows; i++) {
+        final int oldSize = this.columns.size();
+        final boolean wasGroupColumnVisible = this.isGroupColumnVisible();
+        final DataColumns newColumns = new DataColumns(points.size());
+        newColumns.setSize(points.size());
+        for (int i = 0; i < points.size(); i++) {
             final DataPoint sourcePoint = points.get(i);
-            final DataPoint targetPoint = this.dataPoints.get(i);
             if (sourcePoint != null) {
-                targetPoint.setX(sourcePoint.getX());
-                targetPoint.setY(sourcePoint.getY());
+                if (sourcePoint.getX() != null) {
+                    newColumns.setX(i, sourcePoint.getX());
+                }
+                if (sourcePoint.getY() != null) {
+                    newColumns.setY(i, sourcePoint.getY());
+                }
             }
         }
-        this.fireTableDataChanged();
+        this.columns = newColumns;
+        this.normalizeRowCount();
+        this.statistics = this.regressionEngine.accumulate(this.columns);
+        this.fireRowsReplaced(oldSize, wasGroupColumnVisible);
+    }
+
+    public void setColumns(final PointColumns newColumns) {
+        if (newColumns == null) {
+            return;
+        }
+        this.setColumns(newColumns, this.regressionEngine.accumulate(newColumns));
+    }
+
+    public void setColumns(final PointColumns newColumns, final RegressionStatistics newStatistics) {
+        if (newColumns == null || newStatistics == null) {
+            return;
+        }
+        final int oldSize = this.columns.size();
+        final boolean wasGroupColumnVisible = this.isGroupColumnVisible();
+        this.columns = newColumns;
+        this.normalizeRowCount();
+        this.statistics = newStatistics;
+        this.fireRowsReplaced(oldSize, wasGroupColumnVisible);
+    }
+
+    public void appendPoints(final double[] xValues, final double[] yValues, final int count) {
+        if (count <= 0 || this.isReadOnly()) {
+            return;
+        }
+        final DataColumns dataColumns = (DataColumns) this.columns;
+        int firstRow = this.columns.size();
+        while (firstRow > 0 && !this.isRowUsed(firstRow - 1)) {
+            firstRow--;
+        }
+        final int oldSize = this.columns.size();
+        dataColumns.setSize(Math.max(firstRow + count + 1, oldSize));
+        for (int i = 0; i < count; i++) {
+            dataColumns.setX(firstRow + i, xValues[i]);
+            dataColumns.setY(firstRow + i, yValues[i]);
+            this.statistics.add(xValues[i], yValues[i]);
+        }
+        if (firstRow < oldSize) {
+            this.fireTableRowsUpdated(firstRow, Math.min(firstRow + count, oldSize) - 1);
+        }
+        if (this.columns.size() > oldSize) {
+            this.fireTableRowsInserted(oldSize, this.columns.size() - 1);
+        }
+    }
+
+    public void ensureRowCount(final int rowCount) {
+        if (rowCount > this.columns.size() && !this.isReadOnly()) {
+            this.resize(rowCount);
+        }
+    }
+
+    private void normalizeRowCount() {
+        if (this.isReadOnly()) {
+            return;
+        }
+        int usedRows = this.columns.size();
+        while (usedRows > 0 && !this.isRowUsed(usedRows - 1)) {
+            usedRows--;
+        }
+        ((DataColumns) this.columns).setSize(Math.max(usedRows + 1, MIN_ROW_COUNT));
+    }
+
+    private boolean isRowUsed(final int row) {
+        return this.columns.hasX(row) || this.columns.hasY(row) || this.columns.hasGroup(row);
+    }
+
+    private void setCell(final int row, final int column, final double value) {
+        final DataColumns dataColumns = (DataColumns) this.columns;
+        this.removeFromStatistics(row);
+        if (column == 0) {
+            dataColumns.setX(row, value);
+        } else {
+            dataColumns.setY(row, value);
+        }
+        this.addToStatistics(row);
+    }
+
+    private void clearCell(final int row, final int column) {
+        final DataColumns dataColumns = (DataColumns) this.columns;
+        if (column == GROUP_COLUMN) {
+            // the group key does not take part in the overall fit
+            dataColumns.clearGroup(row);
+            return;
+        }
+        this.removeFromStatistics(row);
+        if (column == 0) {
+            dataColumns.clearX(row);
+        } else {
+            dataColumns.clearY(row);
+        }
+    }
+
+    private void addToStatistics(final int row) {
+        if (this.columns.isValid(row)) {
+            this.statistics.add(this.columns.getX(row), this.columns.getY(row));
+        }
+    }
+
+    private void removeFromStatistics(final int row) {
+        if (this.columns.isValid(row)) {
+            this.statistics.remove(this.columns.getX(row), this.columns.getY(row));
+        }
+    }
+
+    private void resize(final int newSize) {
+        final int oldSize = this.columns.size();
+        if (newSize == oldSize) {
+            return;
+        }
+        for (int row = newSize; row < oldSize; row++) {
+            this.removeFromStatistics(row);
+        }
+        ((DataColumns) this.columns).setSize(newSize);
+        if (newSize > oldSize) {
+            this.fireTableRowsInserted(oldSize, newSize - 1);
+        } else {
+            this.fireTableRowsDeleted(newSize, oldSize - 1);
+        }
+    }
+
+    private void fireRowsReplaced(final int oldSize, final boolean wasGroupColumnVisible) {
+        if (this.isGroupColumnVisible() != wasGroupColumnVisible) {
+            // a structure change refreshes the rows as well
+            this.fireTableStructureChanged();
+            return;
+        }
+        final int newSize = this.columns.size();
+        if (newSize < oldSize) {
+            this.fireTableRowsDeleted(newSize, oldSize - 1);
+        }
+        this.fireTableRowsUpdated(0, Math.min(oldSize, newSize) - 1);
+        if (newSize > oldSize) {
+            this.fireTableRowsInserted(oldSize, newSize - 1);
+        }
     }
 
     public static class DataPoint {
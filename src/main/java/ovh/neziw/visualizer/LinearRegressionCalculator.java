@@ -24,41 +24,101 @@
 package ovh.neziw.visualizer;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import ovh.neziw.visualizer.regression.CrossProductStatistics;
+import ovh.neziw.visualizer.regression.PredictorColumns;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
+import ovh.neziw.visualizer.regression.StudentT;
 
 public final class LinearRegressionCalculator {
 
+    public static final RegressionEngine DEFAULT_ENGINE = RegressionEngine.WELFORD;
+
     public static RegressionResult calculate(final List<DataTableModel.DataPoint> dataPoints) {
         if (dataPoints == null || dataPoints.size() < 2) {
             return null;
         }
-        final int n = dataPoints.size();
-        double sumX = 0.0;
-        double sumY = 0.0;
-        double sumXY = 0.0;
-        double sumXX = 0.0;
+        final RegressionStatistics statistics = DEFAULT_ENGINE.createStatistics();
         for (final DataTableModel.DataPoint point : dataPoints) {
-            final double x = point.getX();
-            final double y = point.getY();
-            sumX += x;
-            sumY += y;
-            sumXY += x * y;
-            sumXX += x * x;
-        }
-        final double meanX = sumX / n;
-        final double meanY = sumY / n;
-        final double slope = (sumXY - n * meanX * meanY) / (sumXX - n * meanX * meanX);
-        final double intercept = meanY - slope * meanX;
-        return new RegressionResult(slope, intercept);
+            statistics.add(point.getX(), point.getY());
+        }
+        return statistics.toResult();
+    }
+
+    public static RegressionResult calculate(final PointColumns columns) {
+        return calculate(columns, DEFAULT_ENGINE);
+    }
+
+    public static RegressionResult calculate(final PointColumns columns, final RegressionEngine engine) {
+        if (columns == null) {
+            return null;
+        }
+        return engine.accumulate(columns).toResult();
+    }
+
+    public static RegressionResult calculate(final PointColumns columns, final RegressionEngine engine,
+                                             final int parallelThreshold) {
+        if (columns == null) {
+            return null;
+        }
+        return engine.accumulate(columns, parallelThreshold).toResult();
+    }
+
+    public static MultipleRegressionResult calculate(final PredictorColumns columns) {
+        if (columns == null) {
+            return null;
+        }
+        return CrossProductStatistics.accumulate(columns).toResult();
+    }
+
+    public static MultipleRegressionResult calculate(final PredictorColumns columns, final int parallelThreshold) {
+        if (columns == null) {
+            return null;
+        }
+        return CrossProductStatistics.accumulate(columns, parallelThreshold).toResult();
     }
 
     public static class RegressionResult {
 
+        public static final double BAND_LEVEL = 0.95;
+        private static final ConcurrentMap<Long, Double> CRITICAL_VALUES = new ConcurrentHashMap<>();
+
         private final double slope;
         private final double intercept;
+        private final long count;
+        private final double meanX;
+        private final double sxx;
+        private final double totalSumOfSquares;
+        private final double residualSumOfSquares;
+        private final double criticalValue;
 
         public RegressionResult(final double slope, final double intercept) {
+            this(slope, intercept, 0, 0.0, 0.0, 0.0, 0.0);
+        }
+
+        public RegressionResult(final double slope, final double intercept, final long count, final double meanX,
+                                final double sxx, final double totalSumOfSquares,
+                                final double residualSumOfSquares) {
             this.slope = slope;
             this.intercept = intercept;
+            this.count = count;
+            this.meanX = meanX;
+            this.sxx = sxx;
+            this.totalSumOfSquares = totalSumOfSquares;
+            this.residualSumOfSquares = residualSumOfSquares;
+            this.criticalValue = criticalValue(this.getDegreesOfFreedom());
+        }
+
+        // a quantile costs tens of microseconds and a result is built per group and per edit, so each
+        // degree of freedom is solved once; the cache holds one entry per distinct row count seen
+        private static double criticalValue(final long degreesOfFreedom) {
+            if (degreesOfFreedom < 1) {
+                return Double.NaN;
+            }
+            return CRITICAL_VALUES.computeIfAbsent(degreesOfFreedom,
+                key -> StudentT.quantile(0.5 + BAND_LEVEL / 2.0, key));
         }
 
         public double getSlope() {
@@ -72,5 +132,158 @@ public final class LinearRegressionCalculator {
         public double predict(final double x) {
             return this.slope * x + this.intercept;
         }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getDegreesOfFreedom() {
+            return Math.max(0, this.count - 2);
+        }
+
+        public double getResidualSumOfSquares() {
+            return this.residualSumOfSquares;
+        }
+
+        public double getRSquared() {
+            if (this.sxx == 0.0 || this.totalSumOfSquares == 0.0) {
+                return 0.0;
+            }
+            return Math.max(0.0, 1.0 - this.residualSumOfSquares / this.totalSumOfSquares);
+        }
+
+        public double getStandardError() {
+            final long degreesOfFreedom = this.getDegreesOfFreedom();
+            return degreesOfFreedom == 0 ? Double.NaN : Math.sqrt(this.residualSumOfSquares / degreesOfFreedom);
+        }
+
+        public double getSlopeStandardError() {
+            return this.getStandardError() / Math.sqrt(this.sxx);
+        }
+
+        public double getInterceptStandardError() {
+            return this.getStandardError() * Math.sqrt(1.0 / this.count + this.meanX * this.meanX / this.sxx);
+        }
+
+        public double getCriticalValue() {
+            return this.criticalValue;
+        }
+
+        public double getConfidenceHalfWidth(final double x) {
+            return this.getBandHalfWidth(x, 0.0);
+        }
+
+        public double getPredictionHalfWidth(final double x) {
+            return this.getBandHalfWidth(x, 1.0);
+        }
+
+        public boolean hasBands() {
+            return this.getDegreesOfFreedom() > 0 && this.sxx > 0.0
+                && Double.isFinite(this.getConfidenceHalfWidth(this.meanX));
+        }
+
+        private double getBandHalfWidth(final double x, final double observation) {
+            final double dx = x - this.meanX;
+            return this.getCriticalValue() * this.getStandardError()
+                * Math.sqrt(observation + 1.0 / this.count + dx * dx / this.sxx);
+        }
+    }
+
+    public static class MultipleRegressionResult {
+
+        private final double[] coefficients;
+        private final double intercept;
+        private final long count;
+        private final double totalSumOfSquares;
+        private final double residualSumOfSquares;
+        private final double[] coefficientVarianceFactors;
+        private final double interceptVarianceFactor;
+
+        // the variance factors are the diagonal of (X'X)^-1 for the centered predictors and the
+        // matching term for the intercept; scaled by the residual variance they give the standard errors
+        public MultipleRegressionResult(final double[] coefficients, final double intercept, final long count,
+                                        final double totalSumOfSquares, final double residualSumOfSquares,
+                                        final double[] coefficientVarianceFactors,
+                                        final double interceptVarianceFactor) {
+            this.coefficients = coefficients.clone();
+            this.intercept = intercept;
+            this.count = count;
+            this.totalSumOfSquares = totalSumOfSquares;
+            this.residualSumOfSquares = residualSumOfSquares;
+            this.coefficientVarianceFactors = coefficientVarianceFactors.clone();
+            this.interceptVarianceFactor = interceptVarianceFactor;
+        }
+
+        public int getPredictorCount() {
+            return this.coefficients.length;
+        }
+
+        public double getCoefficient(final int predictor) {
+            return this.coefficients[predictor];
+        }
+
+        public double[] getCoefficients() {
+            return this.coefficients.clone();
+        }
+
+        public double getIntercept() {
+            return this.intercept;
+        }
+
+        public double predict(final double... predictors) {
+            if (predictors.length != this.coefficients.length) {
+                throw new IllegalArgumentException("Expected " + this.coefficients.length + " predictors, got "
+                    + predictors.length);
+            }
+            double value = this.intercept;
+            for (int predictor = 0; predictor < predictors.length; predictor++) {
+                value += this.coefficients[predictor] * predictors[predictor];
+            }
+            return value;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getDegreesOfFreedom() {
+            return Math.max(0, this.count - this.coefficients.length - 1);
+        }
+
+        public double getResidualSumOfSquares() {
+            return this.residualSumOfSquares;
+        }
+
+        public double getTotalSumOfSquares() {
+            return this.totalSumOfSquares;
+        }
+
+        public double getRSquared() {
+            if (this.totalSumOfSquares == 0.0) {
+                return 0.0;
+            }
+            return Math.max(0.0, 1.0 - this.residualSumOfSquares / this.totalSumOfSquares);
+        }
+
+        public double getAdjustedRSquared() {
+            final long degreesOfFreedom = this.getDegreesOfFreedom();
+            if (degreesOfFreedom == 0) {
+                return Double.NaN;
+            }
+            return 1.0 - (1.0 - this.getRSquared()) * (this.count - 1) / degreesOfFreedom;
+        }
+
+        public double getStandardError() {
+            final long degreesOfFreedom = this.getDegreesOfFreedom();
+            return degreesOfFreedom == 0 ? Double.NaN : Math.sqrt(this.residualSumOfSquares / degreesOfFreedom);
+        }
+
+        public double getCoefficientStandardError(final int predictor) {
+            return this.getStandardError() * Math.sqrt(this.coefficientVarianceFactors[predictor]);
+        }
+
+        public double getInterceptStandardError() {
+            return this.getStandardError() * Math.sqrt(this.interceptVarianceFactor);
+        }
     }
 }
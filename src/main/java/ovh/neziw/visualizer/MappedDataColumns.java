@@ -0,0 +1,178 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+public final class MappedDataColumns implements PointColumns {
+
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final int size;
+    private final DoubleBuffer[] xSegments;
+    private final DoubleBuffer[] ySegments;
+    private final LongBuffer xPresent;
+    private final LongBuffer yPresent;
+    private final LongBuffer[] groupSegments;
+    private final LongBuffer groupPresent;
+    // computed at most a few times when threads race, each storing the same value
+    private volatile int validCount = -1;
+
+    private MappedDataColumns(final int size, final DoubleBuffer[] xSegments, final DoubleBuffer[] ySegments,
+                              final LongBuffer xPresent, final LongBuffer yPresent,
+                              final LongBuffer[] groupSegments, final LongBuffer groupPresent) {
+        this.size = size;
+        this.xSegments = xSegments;
+        this.ySegments = ySegments;
+        this.xPresent = xPresent;
+        this.yPresent = yPresent;
+        this.groupSegments = groupSegments;
+        this.groupPresent = groupPresent;
+    }
+
+    public static MappedDataColumns map(final FileChannel channel, final long dataOffset, final int rows)
+        throws IOException {
+        return map(channel, dataOffset, rows, false);
+    }
+
+    public static MappedDataColumns map(final FileChannel channel, final long dataOffset, final int rows,
+                                        final boolean groups) throws IOException {
+        final long columnBytes = (long) rows * Double.BYTES;
+        final long maskBytes = (long) ((rows + 63) >>> 6) * Long.BYTES;
+        final DoubleBuffer[] xSegments = new DoubleBuffer[segmentCount(rows)];
+        final DoubleBuffer[] ySegments = new DoubleBuffer[segmentCount(rows)];
+        for (int i = 0; i < xSegments.length; i++) {
+            xSegments[i] = mapSegment(channel, dataOffset, rows, i).asDoubleBuffer();
+            ySegments[i] = mapSegment(channel, dataOffset + columnBytes, rows, i).asDoubleBuffer();
+        }
+        final LongBuffer xPresent = mapMask(channel, dataOffset + 2 * columnBytes, maskBytes);
+        final LongBuffer yPresent = mapMask(channel, dataOffset + 2 * columnBytes + maskBytes, maskBytes);
+        if (!groups) {
+            return new MappedDataColumns(rows, xSegments, ySegments, xPresent, yPresent, null, null);
+        }
+        // group keys follow the presence words, laid out like another column
+        final long groupOffset = dataOffset + 2 * columnBytes + 2 * maskBytes;
+        final LongBuffer[] groupSegments = new LongBuffer[segmentCount(rows)];
+        for (int i = 0; i < groupSegments.length; i++) {
+            groupSegments[i] = mapSegment(channel, groupOffset, rows, i).asLongBuffer();
+        }
+        final LongBuffer groupPresent = mapMask(channel, groupOffset + columnBytes, maskBytes);
+        return new MappedDataColumns(rows, xSegments, ySegments, xPresent, yPresent, groupSegments, groupPresent);
+    }
+
+    private static int segmentCount(final int rows) {
+        return Math.max(1, (int) (((long) rows + SEGMENT_MASK) >>> SEGMENT_SHIFT));
+    }
+
+    private static ByteBuffer mapSegment(final FileChannel channel, final long offset, final int rows,
+                                         final int segment) throws IOException {
+        final long firstRow = (long) segment << SEGMENT_SHIFT;
+        final long segmentRows = Math.min((long) rows - firstRow, 1L << SEGMENT_SHIFT);
+        return channel.map(FileChannel.MapMode.READ_ONLY,
+                offset + firstRow * Double.BYTES, Math.max(0L, segmentRows) * Double.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static LongBuffer mapMask(final FileChannel channel, final long offset, final long maskBytes)
+        throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, maskBytes)
+            .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean hasX(final int row) {
+        return row < this.size && (this.xPresent.get(row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean hasY(final int row) {
+        return row < this.size && (this.yPresent.get(row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean isValid(final int row) {
+        final int word = row >>> 6;
+        return row < this.size && ((this.xPresent.get(word) & this.yPresent.get(word)) & (1L << row)) != 0;
+    }
+
+    @Override
+    public boolean hasGroups() {
+        return this.groupPresent != null;
+    }
+
+    @Override
+    public boolean hasGroup(final int row) {
+        return this.groupPresent != null && row < this.size && (this.groupPresent.get(row >>> 6) & (1L << row)) != 0;
+    }
+
+    @Override
+    public long getGroup(final int row) {
+        return this.groupSegments == null ? 0L : this.groupSegments[row >>> SEGMENT_SHIFT].get(row & SEGMENT_MASK);
+    }
+
+    @Override
+    public double getX(final int row) {
+        return this.xSegments[row >>> SEGMENT_SHIFT].get(row & SEGMENT_MASK);
+    }
+
+    @Override
+    public double getY(final int row) {
+        return this.ySegments[row >>> SEGMENT_SHIFT].get(row & SEGMENT_MASK);
+    }
+
+    @Override
+    public int countValid() {
+        final int cached = this.validCount;
+        if (cached >= 0) {
+            return cached;
+        }
+        int count = 0;
+        final int words = (this.size + 63) >>> 6;
+        for (int i = 0; i < words; i++) {
+            long bits = this.xPresent.get(i) & this.yPresent.get(i);
+            if (i == words - 1 && (this.size & 63) != 0) {
+                bits &= (1L << this.size) - 1;
+            }
+            count += Long.bitCount(bits);
+        }
+        this.validCount = count;
+        return count;
+    }
+
+    @Override
+    public MappedDataColumns snapshot() {
+        return this;
+    }
+}
@@ -25,41 +25,94 @@ package ovh.neziw.visualizer;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.util.List;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.AxisChangeListener;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.chart.ui.Align;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
+import ovh.neziw.visualizer.chart.ColumnsXYDataset;
+import ovh.neziw.visualizer.chart.CurveSampler;
+import ovh.neziw.visualizer.chart.DensityGrid;
+import ovh.neziw.visualizer.chart.PointArray;
+import ovh.neziw.visualizer.chart.PointDecimator;
+import ovh.neziw.visualizer.gui.ChartChange;
 import ovh.neziw.visualizer.gui.ChartSettings;
+import ovh.neziw.visualizer.regression.DataSummary;
+import ovh.neziw.visualizer.regression.FittedCurve;
+import ovh.neziw.visualizer.regression.GroupStatistics;
+import ovh.neziw.visualizer.regression.PolynomialModel;
+import ovh.neziw.visualizer.regression.RegressionModel;
 
 public class RegressionChart extends JPanel {
 
-    private final XYSeries dataSeries;
-    private final XYSeries regressionSeries;
+    private static final Logger LOGGER = Logger.getLogger(RegressionChart.class.getName());
+    private static final int FULL_DETAIL_LIMIT = Integer.getInteger("visualizer.fullDetailLimit", 20_000);
+    private static final int BUCKET_PIXELS = 2;
+    private static final int REFINE_DELAY_MS = 30;
+    private static final int DEFAULT_WIDTH = 600;
+    private static final int DEFAULT_HEIGHT = 400;
+    private static final String LINEAR_TITLE = "Regresja liniowa";
+    private static final int DATA_SERIES = 0;
+    private static final int REGRESSION_SERIES = 1;
+    private static final int BAND_DATASET = 1;
+    private static final int BAND_POINTS = 64;
+    private static final float BAND_ALPHA = 0.2f;
+    private static final int GROUP_DATASET = 2;
+    private static final int MAX_CHART_GROUPS = Integer.getInteger("visualizer.maxChartGroups", 12);
+    private static final Color[] GROUP_COLORS = {
+        new Color(31, 119, 180), new Color(255, 127, 14), new Color(44, 160, 44), new Color(214, 39, 40),
+        new Color(148, 103, 189), new Color(140, 86, 75), new Color(227, 119, 194), new Color(127, 127, 127),
+        new Color(188, 189, 34), new Color(23, 190, 207)
+    };
+
+    private final ColumnsXYDataset dataset;
     private final JFreeChart chart;
     private final XYLineAndShapeRenderer renderer;
+    private final DeviationRenderer bandRenderer;
+    private final XYLineAndShapeRenderer groupRenderer;
+    private final YIntervalSeries confidenceBand;
+    private final YIntervalSeries predictionBand;
     private final XYPlot plot;
     private final ChartSettings settings;
+    private final ChartPanel chartPanel;
+    private final Timer refineTimer;
+    private final ExecutorService detailExecutor;
+    private PointColumns columns;
+    private DataSummary summary;
+    private DensityGrid densityGrid;
+    private int[] densityCounts;
+    // series 2 * i holds the points of the i-th largest group and 2 * i + 1 its line
+    private ColumnsXYDataset groupDataset;
+    private int[] chartGroups;
+    private long refineGeneration;
+    private boolean densityShown;
+    private boolean updatingAxes;
 
     public RegressionChart(final ChartSettings settings) {
         this.settings = settings;
-        this.dataSeries = new XYSeries("Dane");
-        this.regressionSeries = new XYSeries("Regresja liniowa");
-        final XYSeriesCollection dataset = new XYSeriesCollection();
-        dataset.addSeries(this.dataSeries);
-        dataset.addSeries(this.regressionSeries);
+        this.dataset = new ColumnsXYDataset("Dane", LINEAR_TITLE);
 
         this.chart = ChartFactory.createXYLineChart(
-            "Regresja liniowa",
+            LINEAR_TITLE,
             "X",
             "Y",
-            dataset,
+            this.dataset,
             PlotOrientation.VERTICAL,
             true,
             true,
@@ -68,18 +121,46 @@ public class RegressionChart extends JPanel {
 
         this.plot = this.chart.getXYPlot();
         this.renderer = new XYLineAndShapeRenderer();
+        this.bandRenderer = new DeviationRenderer(false, false);
+        this.bandRenderer.setAlpha(BAND_ALPHA);
+        this.groupRenderer = new XYLineAndShapeRenderer();
+        this.confidenceBand = new YIntervalSeries("Przedział ufności");
+        this.predictionBand = new YIntervalSeries("Przedział predykcji");
+        final YIntervalSeriesCollection bands = new YIntervalSeriesCollection();
+        bands.addSeries(this.confidenceBand);
+        bands.addSeries(this.predictionBand);
 
         this.updateRendererSettings();
 
         this.plot.setRenderer(this.renderer);
+        // the default reverse rendering order keeps the bands behind the points and the line
+        this.plot.setDataset(BAND_DATASET, bands);
+        this.plot.setRenderer(BAND_DATASET, this.bandRenderer);
+        this.plot.setRenderer(GROUP_DATASET, this.groupRenderer);
         this.plot.setBackgroundPaint(Color.WHITE);
         this.plot.setDomainGridlinePaint(Color.LIGHT_GRAY);
         this.plot.setRangeGridlinePaint(Color.LIGHT_GRAY);
+        this.plot.setBackgroundImageAlignment(Align.FIT);
 
-        final ChartPanel chartPanel = new ChartPanel(this.chart);
-        chartPanel.setPreferredSize(new java.awt.Dimension(600, 400));
+        this.chartPanel = new ChartPanel(this.chart);
+        this.chartPanel.setPreferredSize(new java.awt.Dimension(DEFAULT_WIDTH, DEFAULT_HEIGHT));
         this.setLayout(new java.awt.BorderLayout());
-        this.add(chartPanel, java.awt.BorderLayout.CENTER);
+        this.add(this.chartPanel, java.awt.BorderLayout.CENTER);
+
+        this.refineTimer = new Timer(REFINE_DELAY_MS, e -> this.refineView());
+        this.refineTimer.setRepeats(false);
+        this.detailExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "chart-detail");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final AxisChangeListener zoomListener = e -> {
+            if (!this.updatingAxes) {
+                this.refineTimer.restart();
+            }
+        };
+        this.plot.getDomainAxis().addChangeListener(zoomListener);
+        this.plot.getRangeAxis().addChangeListener(zoomListener);
     }
 
     private void updateRendererSettings() {
@@ -99,45 +180,228 @@ public class RegressionChart extends JPanel {
             stroke = new BasicStroke(2.0f);
         }
         this.renderer.setSeriesStroke(1, stroke);
+
+        for (int series = 0; series < 2; series++) {
+            this.bandRenderer.setSeriesFillPaint(series, this.settings.getRegressionLineColor());
+            this.bandRenderer.setSeriesVisibleInLegend(series, false);
+        }
+        this.updateGroupRendererSettings();
     }
 
-    public void applySettings() {
-        this.updateRendererSettings();
-        this.chart.fireChartChanged();
+    private void updateGroupRendererSettings() {
+        if (this.chartGroups == null) {
+            return;
+        }
+        final BasicStroke groupStroke = new BasicStroke(1.5f);
+        for (int index = 0; index < this.chartGroups.length; index++) {
+            final Color color = GROUP_COLORS[index % GROUP_COLORS.length];
+            final int pointSeries = 2 * index;
+            final int lineSeries = pointSeries + 1;
+            this.groupRenderer.setSeriesLinesVisible(pointSeries, false);
+            this.groupRenderer.setSeriesShapesVisible(pointSeries, true);
+            this.groupRenderer.setSeriesPaint(pointSeries, color);
+            this.groupRenderer.setSeriesShape(pointSeries, this.settings.getDataPointShape());
+            this.groupRenderer.setSeriesLinesVisible(lineSeries, true);
+            this.groupRenderer.setSeriesShapesVisible(lineSeries, false);
+            this.groupRenderer.setSeriesPaint(lineSeries, color);
+            this.groupRenderer.setSeriesStroke(lineSeries, groupStroke);
+            this.groupRenderer.setSeriesVisibleInLegend(lineSeries, false);
+        }
+    }
+
+    public void applySettings(final ChartChange change) {
+        this.chart.setNotify(false);
+        try {
+            switch (change) {
+                case STYLE:
+                    this.updateRendererSettings();
+                    this.updatePresentation();
+                    break;
+                case AXIS_RANGE:
+                    this.layoutView();
+                    this.dataset.fireChanged();
+                    this.refineView();
+                    break;
+                default:
+                    // new points arrive through updateChart once the updater has summarized them
+                    break;
+            }
+        } finally {
+            this.chart.setNotify(true);
+        }
+    }
+
+    public void updateChart(final PointColumns columns, final DataSummary summary) {
+        this.columns = columns;
+        this.summary = summary;
+        this.chart.setNotify(false);
+        try {
+            this.showPoints();
+            this.layoutView();
+            this.dataset.fireChanged();
+            this.refineView();
+        } finally {
+            this.chart.setNotify(true);
+        }
+    }
+
+    private void updatePresentation() {
+        final boolean densityMode = this.settings.isDensityMode();
+        if (densityMode != this.densityShown) {
+            this.showPoints();
+            this.dataset.fireChanged();
+            this.refineView();
+        } else if (densityMode && this.densityCounts != null) {
+            this.plot.setBackgroundImage(this.densityGrid.render(this.densityCounts, this.settings.getDataPointColor()));
+        }
     }
 
-    public void updateChart(final List<DataTableModel.DataPoint> dataPoints,
-                            final LinearRegressionCalculator.RegressionResult regression) {
-        this.dataSeries.clear();
-        this.regressionSeries.clear();
-        if (dataPoints == null || dataPoints.isEmpty()) {
-            this.chart.fireChartChanged();
+    private void showPoints() {
+        this.refineTimer.stop();
+        this.refineGeneration++;
+        this.densityShown = this.settings.isDensityMode();
+        this.densityGrid = null;
+        this.densityCounts = null;
+        this.dataset.clearSeries(DATA_SERIES);
+        if (!this.densityShown) {
+            this.plot.setBackgroundImage(null);
+        }
+        this.showGroups();
+        if (this.hasData() && !this.densityShown && this.isFullDetail(this.summary)) {
+            if (this.groupDataset != null) {
+                this.partitionPoints();
+            } else {
+                this.dataset.setSeries(DATA_SERIES, this.columns, this.summary.getLastValidRow() + 1);
+            }
+        }
+    }
+
+    private void showGroups() {
+        this.groupDataset = null;
+        this.chartGroups = null;
+        if (this.hasData() && this.summary.hasGroups()) {
+            final GroupStatistics groups = this.summary.getGroups();
+            this.chartGroups = groups.largestGroups(MAX_CHART_GROUPS);
+            final String[] keys = new String[this.chartGroups.length * 2];
+            for (int index = 0; index < this.chartGroups.length; index++) {
+                final long key = groups.getKey(this.chartGroups[index]);
+                keys[2 * index] = "Grupa " + key;
+                keys[2 * index + 1] = "Regresja grupy " + key;
+            }
+            this.groupDataset = new ColumnsXYDataset(keys);
+            this.updateGroupRendererSettings();
+            for (int index = 0; index < this.chartGroups.length; index++) {
+                this.showGroupLine(groups, index);
+            }
+        }
+        this.plot.setDataset(GROUP_DATASET, this.groupDataset);
+    }
+
+    private void showGroupLine(final GroupStatistics groups, final int index) {
+        final int group = this.chartGroups[index];
+        final LinearRegressionCalculator.RegressionResult regression = groups.toResult(group);
+        // a group whose points share one x value has no defined slope
+        if (regression == null || !Double.isFinite(regression.getSlope())) {
             return;
         }
+        // each line spans only its own group's points, the padding belongs to the overall line
+        final double startX = groups.getMinX(group);
+        final double endX = groups.getMaxX(group);
+        this.groupDataset.setSeries(2 * index + 1, new PointArray(new double[] {startX, endX},
+            new double[] {regression.predict(startX), regression.predict(endX)}, 2), 2);
+    }
 
-        double minX = Double.MAX_VALUE;
-        double maxX = Double.MIN_VALUE;
-        double minY = Double.MAX_VALUE;
-        double maxY = Double.MIN_VALUE;
+    private void partitionPoints() {
+        final GroupStatistics groups = this.summary.getGroups();
+        final int[] seriesOfGroup = new int[groups.size()];
+        Arrays.fill(seriesOfGroup, -1);
+        final double[][] groupX = new double[this.chartGroups.length][];
+        final double[][] groupY = new double[this.chartGroups.length][];
+        final int[] groupCounts = new int[this.chartGroups.length];
+        int otherCount = this.summary.getValidCount();
+        for (int index = 0; index < this.chartGroups.length; index++) {
+            final int size = (int) groups.getCount(this.chartGroups[index]);
+            seriesOfGroup[this.chartGroups[index]] = index;
+            groupX[index] = new double[size];
+            groupY[index] = new double[size];
+            otherCount -= size;
+        }
+        final double[] otherX = new double[otherCount];
+        final double[] otherY = new double[otherCount];
+        int others = 0;
+        final int rows = this.summary.getLastValidRow() + 1;
+        for (int row = 0; row < rows; row++) {
+            if (!this.columns.isValid(row)) {
+                continue;
+            }
+            final int series = this.columns.hasGroup(row)
+                ? seriesOfGroup[groups.indexOf(this.columns.getGroup(row))] : -1;
+            if (series < 0) {
+                otherX[others] = this.columns.getX(row);
+                otherY[others++] = this.columns.getY(row);
+            } else {
+                groupX[series][groupCounts[series]] = this.columns.getX(row);
+                groupY[series][groupCounts[series]++] = this.columns.getY(row);
+            }
+        }
+        this.dataset.setSeries(DATA_SERIES, new PointArray(otherX, otherY, others), others);
+        for (int index = 0; index < this.chartGroups.length; index++) {
+            this.groupDataset.setSeries(2 * index,
+                new PointArray(groupX[index], groupY[index], groupCounts[index]), groupCounts[index]);
+        }
+    }
 
-        for (final DataTableModel.DataPoint point : dataPoints) {
-            final double x = point.getX();
-            final double y = point.getY();
-            this.dataSeries.add(x, y);
-            if (x < minX) minX = x;
-            if (x > maxX) maxX = x;
-            if (y < minY) minY = y;
-            if (y > maxY) maxY = y;
+    private void layoutView() {
+        final RegressionModel model = this.settings.getModel();
+        final String title = model == PolynomialModel.LINEAR ? LINEAR_TITLE : "Regresja: " + model.getName();
+        this.chart.setTitle(title);
+        this.dataset.setSeriesKey(REGRESSION_SERIES, title);
+        this.dataset.clearSeries(REGRESSION_SERIES);
+        this.confidenceBand.setNotify(false);
+        this.predictionBand.setNotify(false);
+        try {
+            this.confidenceBand.clear();
+            this.predictionBand.clear();
+            if (this.hasData()) {
+                this.layoutData();
+            }
+        } finally {
+            this.confidenceBand.setNotify(true);
+            this.predictionBand.setNotify(true);
         }
+    }
+
+    private void layoutData() {
 
-        if (regression != null && dataPoints.size() >= 2) {
-            double rangeX = maxX - minX;
-            if (rangeX == 0) {
-                rangeX = Math.max(Math.abs(minX), 1.0);
+        final double minX = this.summary.getMinX();
+        final double maxX = this.summary.getMaxX();
+        double minY = this.summary.getMinY();
+        double maxY = this.summary.getMaxY();
+        double rangeX = maxX - minX;
+        if (rangeX == 0) {
+            rangeX = Math.max(Math.abs(minX), 1.0);
+        }
+        final double paddingX = rangeX * this.settings.getPaddingPercent();
+        final double startX = minX - paddingX;
+        final double endX = maxX + paddingX;
+        final RegressionModel model = this.settings.getModel();
+        final LinearRegressionCalculator.RegressionResult regression = this.summary.getRegression();
+        if (model != PolynomialModel.LINEAR) {
+            final FittedCurve curve = model.fit(this.summary.getModels());
+            if (curve != null) {
+                final PointArray samples = this.sampleCurve(curve, startX, endX, minY, maxY);
+                // only the part over the data widens the axis, a curve can run off quickly in the padding
+                for (int index = 0; index < samples.size(); index++) {
+                    final double x = samples.getX(index);
+                    final double y = samples.getY(index);
+                    if (x >= minX && x <= maxX && !Double.isNaN(y)) {
+                        minY = Math.min(minY, y);
+                        maxY = Math.max(maxY, y);
+                    }
+                }
+                this.dataset.setSeries(REGRESSION_SERIES, samples, samples.size());
             }
-            final double paddingX = rangeX * this.settings.getPaddingPercent();
-            final double startX = minX - paddingX;
-            final double endX = maxX + paddingX;
+        } else if (regression != null) {
             final double startY = regression.predict(startX);
             final double endY = regression.predict(endX);
 
@@ -146,12 +410,128 @@ public class RegressionChart extends JPanel {
             if (endY < minY) minY = endY;
             if (endY > maxY) maxY = endY;
 
-            this.regressionSeries.add(startX, startY);
-            this.regressionSeries.add(endX, endY);
+            this.dataset.setSeries(REGRESSION_SERIES,
+                new PointArray(new double[] {startX, endX}, new double[] {startY, endY}, 2), 2);
+
+            if (this.settings.isShowBands() && regression.hasBands()) {
+                this.fillBands(regression, startX, endX);
+                // the prediction band is widest at one of the ends of the line
+                final double startWidth = regression.getPredictionHalfWidth(startX);
+                final double endWidth = regression.getPredictionHalfWidth(endX);
+                minY = Math.min(minY, Math.min(startY - startWidth, endY - endWidth));
+                maxY = Math.max(maxY, Math.max(startY + startWidth, endY + endWidth));
+            }
+        }
+
+        if (this.groupDataset != null) {
+            for (int series = 1; series < this.groupDataset.getSeriesCount(); series += 2) {
+                for (int item = 0; item < this.groupDataset.getItemCount(series); item++) {
+                    minY = Math.min(minY, this.groupDataset.getYValue(series, item));
+                    maxY = Math.max(maxY, this.groupDataset.getYValue(series, item));
+                }
+            }
+        }
+
+        this.updatingAxes = true;
+        try {
+            this.setAxisRanges(minX, maxX, minY, maxY);
+        } finally {
+            this.updatingAxes = false;
+        }
+    }
+
+    private PointArray sampleCurve(final FittedCurve curve, final double startX, final double endX,
+                                   final double minY, final double maxY) {
+        final Rectangle2D dataArea = this.chartPanel.getScreenDataArea();
+        final int width = dataArea == null || dataArea.getWidth() < 1 ? DEFAULT_WIDTH : (int) dataArea.getWidth();
+        final int height = dataArea == null || dataArea.getHeight() < 1 ? DEFAULT_HEIGHT : (int) dataArea.getHeight();
+        final double rangeY = maxY > minY ? maxY - minY : Math.max(Math.abs(minY), 1.0);
+        return new CurveSampler(curve::predict, 0.5 * rangeY / height, (endX - startX) / width)
+            .sample(startX, endX);
+    }
+
+    private void fillBands(final LinearRegressionCalculator.RegressionResult regression,
+                           final double startX, final double endX) {
+        for (int index = 0; index <= BAND_POINTS; index++) {
+            final double x = startX + (endX - startX) * index / BAND_POINTS;
+            final double y = regression.predict(x);
+            final double confidence = regression.getConfidenceHalfWidth(x);
+            final double prediction = regression.getPredictionHalfWidth(x);
+            this.confidenceBand.add(x, y, y - confidence, y + confidence);
+            this.predictionBand.add(x, y, y - prediction, y + prediction);
+        }
+    }
+
+    private boolean hasData() {
+        return this.columns != null && this.summary != null && !this.summary.isEmpty();
+    }
+
+    private void refineView() {
+        final PointColumns currentColumns = this.columns;
+        final DataSummary currentSummary = this.summary;
+        final boolean densityMode = this.densityShown;
+        if (!this.hasData() || (!densityMode && this.isFullDetail(currentSummary))) {
+            return;
+        }
+        final long generation = ++this.refineGeneration;
+        final ValueAxis domainAxis = this.plot.getDomainAxis();
+        final ValueAxis rangeAxis = this.plot.getRangeAxis();
+        final double minX = domainAxis.getLowerBound();
+        final double maxX = domainAxis.getUpperBound();
+        final double minY = rangeAxis.getLowerBound();
+        final double maxY = rangeAxis.getUpperBound();
+        final Rectangle2D dataArea = this.chartPanel.getScreenDataArea();
+        final int width = dataArea == null || dataArea.getWidth() < 1 ? DEFAULT_WIDTH : (int) dataArea.getWidth();
+        final int height = dataArea == null || dataArea.getHeight() < 1 ? DEFAULT_HEIGHT : (int) dataArea.getHeight();
+        if (densityMode) {
+            this.renderDensity(generation, currentColumns, currentSummary,
+                new DensityGrid(minX, maxX, minY, maxY, width, height));
+            return;
         }
+        final int bucketColumns = Math.max(1, width / BUCKET_PIXELS);
+        final int bucketRows = Math.max(1, height / BUCKET_PIXELS);
+        this.detailExecutor.execute(() -> {
+            try {
+                final PointArray points = PointDecimator.decimate(currentColumns,
+                    currentSummary.getLastValidRow(), minX, maxX, minY, maxY, bucketColumns, bucketRows);
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == this.refineGeneration) {
+                        this.setDataPoints(points);
+                    }
+                });
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.SEVERE, "Error while decimating chart data", exception);
+            }
+        });
+    }
+
+    private void renderDensity(final long generation, final PointColumns currentColumns,
+                               final DataSummary currentSummary, final DensityGrid grid) {
+        this.detailExecutor.execute(() -> {
+            try {
+                final int[] counts = grid.count(currentColumns, currentSummary.getLastValidRow() + 1);
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == this.refineGeneration) {
+                        // counts are kept so a color change only repaints the ramp
+                        this.densityGrid = grid;
+                        this.densityCounts = counts;
+                        this.plot.setBackgroundImage(grid.render(counts, this.settings.getDataPointColor()));
+                    }
+                });
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.SEVERE, "Error while rendering chart density", exception);
+            }
+        });
+    }
+
+    private boolean isFullDetail(final DataSummary summary) {
+        // the dataset is indexed by row, so the row span bounds the renderer's work
+        return summary.getLastValidRow() < FULL_DETAIL_LIMIT;
+    }
 
-        this.setAxisRanges(minX, maxX, minY, maxY);
-        this.chart.fireChartChanged();
+    private void setDataPoints(final PointArray points) {
+        this.dataset.setSeries(DATA_SERIES, points, points.size());
+        this.dataset.fireChanged();
     }
 
     private void setAxisRanges(final double minX, final double maxX, final double minY, final double maxY) {
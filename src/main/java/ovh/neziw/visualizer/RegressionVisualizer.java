@@ -26,6 +26,7 @@ package ovh.neziw.visualizer;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import javax.swing.BorderFactory;
+import javax.swing.JCheckBox;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -35,6 +36,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
 import ovh.neziw.visualizer.gui.ButtonPanel;
+import ovh.neziw.visualizer.gui.ChartChange;
 import ovh.neziw.visualizer.gui.ChartSettings;
 import ovh.neziw.visualizer.gui.ChartSettingsPanel;
 import ovh.neziw.visualizer.gui.ChartUpdater;
@@ -89,7 +91,7 @@ public class RegressionVisualizer extends JFrame {
         final JTable table = new JTable(this.tableModel);
         final TableConfiguration configuration = new TableConfiguration(table, this.tableModel);
         configuration.setupDragAndDrop();
-        configuration.setupDeleteHandler(this::updateChart);
+        configuration.setupDeleteHandler();
         return table;
     }
 
@@ -105,7 +107,7 @@ public class RegressionVisualizer extends JFrame {
         if (this.settingsPanel != null) {
             this.settingsPanel.refreshUI();
         }
-        this.chart.applySettings();
+        this.chartUpdater.applySettings(ChartChange.STYLE);
         this.updateChart();
     }
 
@@ -113,14 +115,14 @@ public class RegressionVisualizer extends JFrame {
         this.tableModel.addTableModelListener(new TableModelListener() {
             @Override
             public void tableChanged(final TableModelEvent e) {
-                RegressionVisualizer.this.updateChart();
+                RegressionVisualizer.this.chartUpdater.requestUpdate();
             }
         });
     }
 
     private void setupUI() {
-        final JScrollPane tableScrollPane = this.createTableScrollPane();
-        final JSplitPane splitPane = this.createSplitPane(tableScrollPane);
+        final JPanel tablePanel = this.createTablePanel();
+        final JSplitPane splitPane = this.createSplitPane(tablePanel);
         final ButtonPanel buttonPanel = this.createButtonPanel();
 
         final JPanel topPanel = new JPanel(new BorderLayout());
@@ -137,22 +139,30 @@ public class RegressionVisualizer extends JFrame {
     }
 
     private ChartSettingsPanel createSettingsPanel() {
-        return new ChartSettingsPanel(this.chartSettings, () -> {
-            this.chart.applySettings();
-            this.updateChart();
-        });
+        return new ChartSettingsPanel(this.chartSettings, this.chartUpdater::applySettings);
     }
 
-    private JScrollPane createTableScrollPane() {
+    private JPanel createTablePanel() {
         final JScrollPane scrollPane = new JScrollPane(this.dataTable);
         scrollPane.setBorder(BorderFactory.createTitledBorder("Dane (X, Y)"));
-        return scrollPane;
+        final JCheckBox groupColumnCheckBox = new JCheckBox("Kolumna \"Grupa\"");
+        groupColumnCheckBox.addActionListener(e ->
+            this.tableModel.setGroupColumnRequested(groupColumnCheckBox.isSelected()));
+        // data that already has group keys always shows them
+        this.tableModel.addTableModelListener(e -> {
+            groupColumnCheckBox.setSelected(this.tableModel.isGroupColumnVisible());
+            groupColumnCheckBox.setEnabled(!this.tableModel.getColumns().hasGroups());
+        });
+        final JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.add(scrollPane, BorderLayout.CENTER);
+        tablePanel.add(groupColumnCheckBox, BorderLayout.SOUTH);
+        return tablePanel;
     }
 
-    private JSplitPane createSplitPane(final JScrollPane tableScrollPane) {
+    private JSplitPane createSplitPane(final JPanel tablePanel) {
         this.chart.setBorder(BorderFactory.createTitledBorder("Wykres regresji liniowej"));
         final JSplitPane splitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT,
-            tableScrollPane, this.chart);
+            tablePanel, this.chart);
         splitPane.setDividerLocation(250);
         splitPane.setResizeWeight(0.3);
         return splitPane;
@@ -23,9 +23,17 @@
  */
 package ovh.neziw.visualizer;
 
+import java.util.Arrays;
+import ovh.neziw.visualizer.cli.BatchMain;
+
 public final class VisualizerMain {
 
     public static void main(final String[] args) {
+        // the batch command must not touch RegressionVisualizer, which would pull in Swing and FlatLaf
+        if (args.length > 0 && BatchMain.COMMAND.equals(args[0])) {
+            BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         RegressionVisualizer.main(args);
     }
 }
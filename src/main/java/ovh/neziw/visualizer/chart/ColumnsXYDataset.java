@@ -0,0 +1,102 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.chart;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+import ovh.neziw.visualizer.PointColumns;
+
+@SuppressWarnings("rawtypes")
+public class ColumnsXYDataset extends AbstractXYDataset {
+
+    private final String[] seriesKeys;
+    private final PointColumns[] seriesColumns;
+    private final int[] itemCounts;
+
+    public ColumnsXYDataset(final String... seriesKeys) {
+        this.seriesKeys = seriesKeys.clone();
+        this.seriesColumns = new PointColumns[seriesKeys.length];
+        this.itemCounts = new int[seriesKeys.length];
+    }
+
+    public void setSeriesKey(final int series, final String key) {
+        this.seriesKeys[series] = key;
+    }
+
+    public void setSeries(final int series, final PointColumns columns, final int itemCount) {
+        this.seriesColumns[series] = columns;
+        this.itemCounts[series] = columns == null ? 0 : itemCount;
+    }
+
+    public void clearSeries(final int series) {
+        this.setSeries(series, null, 0);
+    }
+
+    public void fireChanged() {
+        this.fireDatasetChanged();
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(final int series) {
+        return this.seriesKeys[series];
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.NONE;
+    }
+
+    @Override
+    public int getItemCount(final int series) {
+        return this.itemCounts[series];
+    }
+
+    @Override
+    public Number getX(final int series, final int item) {
+        return this.getXValue(series, item);
+    }
+
+    @Override
+    public double getXValue(final int series, final int item) {
+        final PointColumns columns = this.seriesColumns[series];
+        // rows without a complete point are reported as NaN, which the renderer skips
+        return columns.isValid(item) ? columns.getX(item) : Double.NaN;
+    }
+
+    @Override
+    public Number getY(final int series, final int item) {
+        return this.getYValue(series, item);
+    }
+
+    @Override
+    public double getYValue(final int series, final int item) {
+        final PointColumns columns = this.seriesColumns[series];
+        return columns.isValid(item) ? columns.getY(item) : Double.NaN;
+    }
+}
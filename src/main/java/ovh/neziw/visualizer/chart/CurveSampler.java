@@ -0,0 +1,96 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.chart;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+public final class CurveSampler {
+
+    private static final int INITIAL_SEGMENTS = 16;
+    private static final int MAX_DEPTH = 12;
+
+    private final DoubleUnaryOperator curve;
+    private final double tolerance;
+    private final double minStep;
+    private double[] xValues = new double[64];
+    private double[] yValues = new double[64];
+    private int count;
+
+    // tolerance is how far, in y units, a chord may stray from the curve before its segment is
+    // split, and minStep the narrowest segment worth splitting; both are about half a pixel
+    public CurveSampler(final DoubleUnaryOperator curve, final double tolerance, final double minStep) {
+        this.curve = curve;
+        this.tolerance = tolerance;
+        this.minStep = minStep;
+    }
+
+    public PointArray sample(final double from, final double to) {
+        this.count = 0;
+        double x0 = from;
+        double y0 = this.curve.applyAsDouble(x0);
+        this.append(x0, y0);
+        for (int segment = 1; segment <= INITIAL_SEGMENTS; segment++) {
+            final double x1 = from + (to - from) * segment / INITIAL_SEGMENTS;
+            final double y1 = this.curve.applyAsDouble(x1);
+            this.refine(x0, y0, x1, y1, 0);
+            this.append(x1, y1);
+            x0 = x1;
+            y0 = y1;
+        }
+        return new PointArray(this.xValues, this.yValues, this.count);
+    }
+
+    private void refine(final double x0, final double y0, final double x1, final double y1, final int depth) {
+        if (depth >= MAX_DEPTH || x1 - x0 <= this.minStep) {
+            return;
+        }
+        final double middleX = 0.5 * (x0 + x1);
+        final double middleY = this.curve.applyAsDouble(middleX);
+        final boolean finite0 = Double.isFinite(y0);
+        final boolean finite1 = Double.isFinite(y1);
+        final boolean finiteMiddle = Double.isFinite(middleY);
+        if (!finite0 && !finite1 && !finiteMiddle) {
+            return;
+        }
+        // a segment with an undefined end crosses the edge of the model's domain and is split
+        // until the edge is found to the pixel
+        if (finite0 && finite1 && finiteMiddle && Math.abs(middleY - 0.5 * (y0 + y1)) <= this.tolerance) {
+            return;
+        }
+        this.refine(x0, y0, middleX, middleY, depth + 1);
+        this.append(middleX, middleY);
+        this.refine(middleX, middleY, x1, y1, depth + 1);
+    }
+
+    private void append(final double x, final double y) {
+        if (this.count == this.xValues.length) {
+            this.xValues = Arrays.copyOf(this.xValues, this.count * 2);
+            this.yValues = Arrays.copyOf(this.yValues, this.count * 2);
+        }
+        this.xValues[this.count] = x;
+        // the renderer leaves a gap at NaN, which also covers overflowed values
+        this.yValues[this.count++] = Double.isFinite(y) ? y : Double.NaN;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.chart;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import ovh.neziw.visualizer.ChunkedTask;
+import ovh.neziw.visualizer.PointColumns;
+
+public final class DensityGrid {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+    private static final int RAMP_SIZE = 256;
+
+    private final double minX;
+    private final double minY;
+    private final double scaleX;
+    private final double scaleY;
+    private final int width;
+    private final int height;
+
+    public DensityGrid(final double minX, final double maxX, final double minY, final double maxY,
+                       final int width, final int height) {
+        this.minX = minX;
+        this.minY = minY;
+        this.scaleX = width / (maxX - minX);
+        this.scaleY = height / (maxY - minY);
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public int[] count(final PointColumns columns, final int rowCount) {
+        // every chunk fills a private grid, so the only shared work is the final sum
+        return ChunkedTask.invoke(rowCount, PARALLEL_THRESHOLD, MIN_CHUNK_SIZE, 1, (from, to) -> {
+            final int[] counts = new int[this.width * this.height];
+            this.accumulate(columns, from, to, counts);
+            return counts;
+        }, (left, right) -> {
+            for (int cell = 0; cell < left.length; cell++) {
+                left[cell] += right[cell];
+            }
+            return left;
+        });
+    }
+
+    private void accumulate(final PointColumns columns, final int from, final int to, final int[] counts) {
+        for (int row = from; row < to; row++) {
+            if (!columns.isValid(row)) {
+                continue;
+            }
+            final double column = (columns.getX(row) - this.minX) * this.scaleX;
+            final double line = (columns.getY(row) - this.minY) * this.scaleY;
+            // comparisons on the unscaled doubles also reject NaN coordinates
+            if (column >= 0 && column < this.width && line >= 0 && line < this.height) {
+                counts[(this.height - 1 - (int) line) * this.width + (int) column]++;
+            }
+        }
+    }
+
+    public BufferedImage render(final int[] counts, final Color color) {
+        int maxCount = 0;
+        for (final int count : counts) {
+            maxCount = Math.max(maxCount, count);
+        }
+        final int[] ramp = createRamp(color);
+        final int[] pixels = new int[counts.length];
+        if (maxCount > 0) {
+            // logarithmic scale keeps sparse regions visible next to dense ones
+            final double scale = (RAMP_SIZE - 1) / Math.log1p(maxCount);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    pixels[i] = ramp[(int) Math.round(Math.log1p(counts[i]) * scale)];
+                }
+            }
+        }
+        final BufferedImage image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, this.width, this.height, pixels, 0, this.width);
+        return image;
+    }
+
+    private static int[] createRamp(final Color color) {
+        final Color light = blend(color, Color.WHITE, 0.75);
+        final Color dark = blend(color, Color.BLACK, 0.6);
+        final int[] ramp = new int[RAMP_SIZE];
+        for (int i = 0; i < RAMP_SIZE; i++) {
+            final double t = (double) i / (RAMP_SIZE - 1);
+            final Color shade = t < 0.5 ? blend(light, color, t * 2) : blend(color, dark, (t - 0.5) * 2);
+            final int alpha = (int) Math.round(96 + 159 * t);
+            ramp[i] = (alpha << 24) | (shade.getRGB() & 0xFFFFFF);
+        }
+        return ramp;
+    }
+
+    private static Color blend(final Color from, final Color to, final double t) {
+        return new Color(
+            (int) Math.round(from.getRed() + (to.getRed() - from.getRed()) * t),
+            (int) Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * t),
+            (int) Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * t));
+    }
+}
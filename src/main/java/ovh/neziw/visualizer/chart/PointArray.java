@@ -0,0 +1,87 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.chart;
+
+import ovh.neziw.visualizer.PointColumns;
+
+public final class PointArray implements PointColumns {
+
+    private final double[] xValues;
+    private final double[] yValues;
+    private final int count;
+
+    public PointArray(final double[] xValues, final double[] yValues, final int count) {
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.count = count;
+    }
+
+    public double[] getXValues() {
+        return this.xValues;
+    }
+
+    public double[] getYValues() {
+        return this.yValues;
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    @Override
+    public boolean hasX(final int row) {
+        return row < this.count;
+    }
+
+    @Override
+    public boolean hasY(final int row) {
+        return row < this.count;
+    }
+
+    @Override
+    public boolean isValid(final int row) {
+        return row < this.count;
+    }
+
+    @Override
+    public double getX(final int row) {
+        return this.xValues[row];
+    }
+
+    @Override
+    public double getY(final int row) {
+        return this.yValues[row];
+    }
+
+    @Override
+    public int countValid() {
+        return this.count;
+    }
+
+    @Override
+    public PointArray snapshot() {
+        return this;
+    }
+}
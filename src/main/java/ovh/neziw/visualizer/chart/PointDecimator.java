@@ -0,0 +1,72 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.chart;
+
+import java.util.Arrays;
+import ovh.neziw.visualizer.PointColumns;
+
+public final class PointDecimator {
+
+    private PointDecimator() {
+    }
+
+    public static PointArray decimate(final PointColumns columns, final int lastRow,
+                                           final double minX, final double maxX,
+                                           final double minY, final double maxY,
+                                           final int columnsCount, final int rowsCount) {
+        final double scaleX = columnsCount / (maxX - minX);
+        final double scaleY = rowsCount / (maxY - minY);
+        final long[] occupied = new long[(int) (((long) columnsCount * rowsCount + 63) >>> 6)];
+        double[] xValues = new double[Math.min(1024, columnsCount * rowsCount)];
+        double[] yValues = new double[xValues.length];
+        int count = 0;
+        for (int row = 0; row <= lastRow; row++) {
+            if (!columns.isValid(row)) {
+                continue;
+            }
+            final double x = columns.getX(row);
+            final double y = columns.getY(row);
+            // negated comparisons also drop NaN coordinates
+            if (!(x >= minX && x <= maxX && y >= minY && y <= maxY)) {
+                continue;
+            }
+            final int column = Math.min(columnsCount - 1, (int) ((x - minX) * scaleX));
+            final int line = Math.min(rowsCount - 1, (int) ((y - minY) * scaleY));
+            final int bucket = line * columnsCount + column;
+            final long mask = 1L << bucket;
+            if ((occupied[bucket >>> 6] & mask) != 0) {
+                continue;
+            }
+            occupied[bucket >>> 6] |= mask;
+            if (count == xValues.length) {
+                xValues = Arrays.copyOf(xValues, count * 2);
+                yValues = Arrays.copyOf(yValues, count * 2);
+            }
+            xValues[count] = x;
+            yValues[count] = y;
+            count++;
+        }
+        return new PointArray(xValues, yValues, count);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import ovh.neziw.visualizer.serialization.BinaryDataSerializer;
+
+public final class BatchMain {
+
+    public static final String COMMAND = "batch";
+
+    private static final int EXIT_FAILED_DATASETS = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private BatchMain() {
+    }
+
+    public static void main(final String[] args) {
+        // Excel column sizing measures text with AWT fonts, which must not look for a display
+        System.setProperty("java.awt.headless", "true");
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        final BatchOptions options;
+        final List<BatchInput> inputs;
+        try {
+            options = BatchOptions.parse(args);
+            inputs = collectInputs(options.getInputs());
+            if (options.getExcelDirectory() != null) {
+                checkExcelNames(inputs, options.getExcelDirectory());
+            }
+        } catch (final IllegalArgumentException | IOException exception) {
+            err.println(exception.getMessage());
+            err.println(BatchOptions.USAGE);
+            return EXIT_USAGE;
+        }
+        final File excelDirectory = options.getExcelDirectory();
+        if (excelDirectory != null && !excelDirectory.isDirectory() && !excelDirectory.mkdirs()) {
+            err.println("Cannot create directory " + excelDirectory);
+            return EXIT_USAGE;
+        }
+
+        final BatchPipeline pipeline = new BatchPipeline(options);
+        final long start = System.nanoTime();
+        final int failed;
+        try (final SummaryWriter writer = options.getFormat().open(openSummary(options.getOutput(), out),
+            options.isMultiple())) {
+            failed = pipeline.run(inputs, writer);
+        } catch (final IOException exception) {
+            err.println("Cannot write summary: " + exception.getMessage());
+            return EXIT_USAGE;
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        for (final StageStatistics stage : pipeline.getStages()) {
+            err.println(stage.format());
+        }
+        err.println(String.format(Locale.ROOT, "%-6s %d files in %.3f s, %.1f files/s",
+            "total:", inputs.size(), seconds, seconds > 0.0 ? inputs.size() / seconds : 0.0));
+        if (failed > 0) {
+            err.println(failed + " of " + inputs.size() + " datasets failed");
+            return EXIT_FAILED_DATASETS;
+        }
+        return 0;
+    }
+
+    static List<BatchInput> collectInputs(final List<File> paths) throws IOException {
+        final List<BatchInput> inputs = new ArrayList<>();
+        for (final File path : paths) {
+            if (!path.isDirectory()) {
+                // missing files are kept so the summary reports them
+                inputs.add(new BatchInput(path, path.getName()));
+                continue;
+            }
+            final Path root = path.toPath();
+            try (final Stream<Path> files = Files.walk(root)) {
+                inputs.addAll(files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> isDataset(file.getFileName().toString()))
+                    .sorted()
+                    .map(file -> new BatchInput(file.toFile(), root.relativize(file).toString()))
+                    .collect(Collectors.toList()));
+            }
+        }
+        return inputs;
+    }
+
+    // workbooks mirror the input tree and keep the source extension, so only the same relative path
+    // under two roots (or twice on the command line) can collide; names are compared without case
+    // because the target file system may not tell them apart
+    static void checkExcelNames(final List<BatchInput> inputs, final File directory) {
+        final Map<String, BatchInput> names = new HashMap<>();
+        for (final BatchInput input : inputs) {
+            final File excelFile = input.getExcelFile(directory);
+            final BatchInput previous = names.put(excelFile.getPath().toLowerCase(Locale.ROOT), input);
+            if (previous != null) {
+                throw new IllegalArgumentException("Both " + previous.getFile() + " and " + input.getFile()
+                    + " would be exported to " + excelFile);
+            }
+        }
+    }
+
+    private static boolean isDataset(final String name) {
+        final String lowerCase = name.toLowerCase(Locale.ROOT);
+        return lowerCase.endsWith(".json") || lowerCase.endsWith("." + BinaryDataSerializer.FILE_EXTENSION);
+    }
+
+    private static OutputStream openSummary(final File output, final PrintStream out) throws IOException {
+        if (output == null) {
+            // standard output stays open for whoever called us, closing the summary only flushes it
+            return new FilterOutputStream(out) {
+                @Override
+                public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                    this.out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    this.flush();
+                }
+            };
+        }
+        return new FileOutputStream(output);
+    }
+}
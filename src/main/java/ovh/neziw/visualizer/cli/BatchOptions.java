@@ -0,0 +1,191 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+
+final class BatchOptions {
+
+    static final String USAGE = String.join("\n",
+        "Usage: batch [options] <file or directory>...",
+        "Fits every JSON or .lrvb dataset and writes one summary record per file, in input order.",
+        "Directories are searched recursively for *.json and *.lrvb files.",
+        "",
+        "  --format text|csv|binary summary format (default: text)",
+        "  --output <file>          write the summary to a file instead of standard output",
+        "  --xlsx <directory>       also export every dataset to <directory>/<path>.xlsx, where <path> is",
+        "                           its path below the scanned directory, extension included",
+        "  --engine sums|welford    regression engine (default: welford)",
+        "  --multiple               fit y against every predictor of each dataset by least squares;",
+        "                           the x field of a JSON point may then be an array",
+        "  --readers <count>        threads reading files (default: " + defaultReaders() + ")",
+        "  --threads <count>        threads fitting datasets (default: " + defaultFitters() + ")");
+
+    private final List<File> inputs;
+    private final SummaryFormat format;
+    private final File output;
+    private final File excelDirectory;
+    private final RegressionEngine engine;
+    private final boolean multiple;
+    private final int readers;
+    private final int fitters;
+
+    private BatchOptions(final List<File> inputs, final SummaryFormat format, final File output,
+                         final File excelDirectory, final RegressionEngine engine, final boolean multiple,
+                         final int readers, final int fitters) {
+        this.inputs = Collections.unmodifiableList(inputs);
+        this.format = format;
+        this.output = output;
+        this.excelDirectory = excelDirectory;
+        this.engine = engine;
+        this.multiple = multiple;
+        this.readers = readers;
+        this.fitters = fitters;
+    }
+
+    static BatchOptions parse(final String[] args) {
+        final List<File> inputs = new ArrayList<>();
+        SummaryFormat format = SummaryFormat.TEXT;
+        File output = null;
+        File excelDirectory = null;
+        RegressionEngine engine = LinearRegressionCalculator.DEFAULT_ENGINE;
+        boolean multiple = false;
+        int readers = defaultReaders();
+        int fitters = defaultFitters();
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            switch (arg) {
+                case "--format":
+                    format = SummaryFormat.parse(value(args, ++i, arg));
+                    break;
+                case "--output":
+                    output = new File(value(args, ++i, arg));
+                    break;
+                case "--xlsx":
+                    excelDirectory = new File(value(args, ++i, arg));
+                    break;
+                case "--engine":
+                    engine = parseEngine(value(args, ++i, arg));
+                    break;
+                case "--multiple":
+                    multiple = true;
+                    break;
+                case "--readers":
+                    readers = parseThreads(value(args, ++i, arg), arg);
+                    break;
+                case "--threads":
+                    fitters = parseThreads(value(args, ++i, arg), arg);
+                    break;
+                default:
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    inputs.add(new File(arg));
+                    break;
+            }
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("No input files given");
+        }
+        if (multiple && excelDirectory != null) {
+            throw new IllegalArgumentException("--xlsx cannot be combined with --multiple");
+        }
+        return new BatchOptions(inputs, format, output, excelDirectory, engine, multiple, readers, fitters);
+    }
+
+    private static String value(final String[] args, final int index, final String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static RegressionEngine parseEngine(final String name) {
+        try {
+            return RegressionEngine.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Unknown regression engine: " + name, exception);
+        }
+    }
+
+    private static int parseThreads(final String value, final String option) {
+        final int threads;
+        try {
+            threads = Integer.parseInt(value);
+        } catch (final NumberFormatException exception) {
+            throw new IllegalArgumentException(option + " needs a positive number, got: " + value, exception);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException(option + " needs a positive number, got: " + value);
+        }
+        return threads;
+    }
+
+    // reading is mostly I/O and JSON parsing, a few threads keep the fit stage busy
+    private static int defaultReaders() {
+        return Math.min(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int defaultFitters() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    List<File> getInputs() {
+        return this.inputs;
+    }
+
+    SummaryFormat getFormat() {
+        return this.format;
+    }
+
+    File getOutput() {
+        return this.output;
+    }
+
+    File getExcelDirectory() {
+        return this.excelDirectory;
+    }
+
+    RegressionEngine getEngine() {
+        return this.engine;
+    }
+
+    boolean isMultiple() {
+        return this.multiple;
+    }
+
+    int getReaders() {
+        return this.readers;
+    }
+
+    int getFitters() {
+        return this.fitters;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.io.ExcelExporter;
+import ovh.neziw.visualizer.regression.CrossProductStatistics;
+import ovh.neziw.visualizer.regression.DataSummary;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.serialization.AtomicFiles;
+import ovh.neziw.visualizer.serialization.DatasetReader;
+
+final class BatchPipeline {
+
+    private static final int WINDOW_PER_THREAD = 4;
+
+    private final DatasetReader reader;
+    private final RegressionEngine engine;
+    private final boolean multiple;
+    private final File excelDirectory;
+    private final ExcelExporter exporter;
+    private final int readers;
+    private final int fitters;
+    private final StageStatistics readStage;
+    private final StageStatistics fitStage;
+    private final StageStatistics writeStage;
+
+    BatchPipeline(final BatchOptions options) {
+        this.reader = new DatasetReader();
+        this.engine = options.getEngine();
+        this.multiple = options.isMultiple();
+        this.excelDirectory = options.getExcelDirectory();
+        this.exporter = this.excelDirectory == null ? null : new ExcelExporter();
+        this.readers = options.getReaders();
+        this.fitters = options.getFitters();
+        this.readStage = new StageStatistics("read", "files", "MB", 1 << 20, this.readers);
+        this.fitStage = new StageStatistics("fit", "datasets", "M points", 1e6, this.fitters);
+        this.writeStage = new StageStatistics("write", "rows", null, 1.0, 1);
+    }
+
+    int run(final List<BatchInput> inputs, final SummaryWriter writer) throws IOException {
+        final ExecutorService readerPool = Executors.newFixedThreadPool(this.readers, threadFactory("batch-reader"));
+        final ExecutorService fitPool = Executors.newFixedThreadPool(this.fitters, threadFactory("batch-fit"));
+        // only a window of datasets may be loaded ahead of the writer, which keeps memory bounded
+        // no matter how far the readers could run ahead of a slow dataset
+        final int window = WINDOW_PER_THREAD * (this.readers + this.fitters);
+        final int count = inputs.size();
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<DatasetFit>[] fits = new CompletableFuture[count];
+        int failed = 0;
+        try {
+            int submitted = 0;
+            for (int index = 0; index < count; index++) {
+                while (submitted < count && submitted < index + window) {
+                    final BatchInput input = inputs.get(submitted);
+                    fits[submitted++] = CompletableFuture
+                        .supplyAsync(() -> this.read(input), readerPool)
+                        .thenApplyAsync(this::fit, fitPool);
+                }
+                final DatasetFit fit = fits[index].join();
+                fits[index] = null;
+                final long start = System.nanoTime();
+                writer.write(fit);
+                this.writeStage.record(0, System.nanoTime() - start);
+                if (fit.isFailed()) {
+                    failed++;
+                }
+            }
+        } finally {
+            readerPool.shutdownNow();
+            fitPool.shutdownNow();
+        }
+        return failed;
+    }
+
+    List<StageStatistics> getStages() {
+        return List.of(this.readStage, this.fitStage, this.writeStage);
+    }
+
+    private LoadedDataset read(final BatchInput input) {
+        final File file = input.getFile();
+        final long start = System.nanoTime();
+        try {
+            if (this.multiple) {
+                return new LoadedDataset(input, null, this.reader.readPredictors(file), null);
+            }
+            return new LoadedDataset(input, this.reader.read(file).getColumns(), null, null);
+        } catch (final IOException | RuntimeException exception) {
+            return new LoadedDataset(input, null, null, DatasetFit.failure(file.getPath(), exception));
+        } finally {
+            this.readStage.record(file.length(), System.nanoTime() - start);
+        }
+    }
+
+    private DatasetFit fit(final LoadedDataset dataset) {
+        if (dataset.failure != null) {
+            return dataset.failure;
+        }
+        final String name = dataset.input.getFile().getPath();
+        final long start = System.nanoTime();
+        long points = 0;
+        try {
+            if (dataset.predictors != null) {
+                final CrossProductStatistics statistics = CrossProductStatistics.accumulate(dataset.predictors);
+                points = statistics.getCount();
+                return DatasetFit.multiple(name, points, statistics.getPredictorCount(), statistics.toResult());
+            }
+            final DataSummary summary = this.engine.summarize(dataset.columns);
+            points = summary.getValidCount();
+            if (this.exporter != null) {
+                this.export(dataset.input.getExcelFile(this.excelDirectory), dataset.columns, summary);
+            }
+            return DatasetFit.success(name, summary);
+        } catch (final IOException | RuntimeException exception) {
+            return DatasetFit.failure(name, exception);
+        } finally {
+            this.fitStage.record(points, System.nanoTime() - start);
+        }
+    }
+
+    private void export(final File file, final PointColumns columns, final DataSummary summary) throws IOException {
+        Files.createDirectories(file.toPath().toAbsolutePath().getParent());
+        AtomicFiles.write(file, path -> {
+            try (final OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path))) {
+                this.exporter.exportToExcel(stream, columns, summary, ProgressListener.NONE);
+            }
+        });
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class LoadedDataset {
+
+        private final BatchInput input;
+        private final PointColumns columns;
+        private final PredictorMatrix predictors;
+        private final DatasetFit failure;
+
+        private LoadedDataset(final BatchInput input, final PointColumns columns, final PredictorMatrix predictors,
+                              final DatasetFit failure) {
+            this.input = input;
+            this.columns = columns;
+            this.predictors = predictors;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.regression.DataSummary;
+
+final class BinarySummaryWriter implements SummaryWriter {
+
+    static final int MAGIC = 0x5356524C;
+    static final int VERSION = 1;
+    static final int VERSION_MULTIPLE = 2;
+    static final byte STATUS_FITTED = 0;
+    static final byte STATUS_TOO_FEW_POINTS = 1;
+    static final byte STATUS_FAILED = 2;
+    private static final int VALUE_COUNT = 11;
+    private static final int MULTIPLE_VALUE_COUNT = 6;
+    private static final int BUFFER_SIZE = 1 << 12;
+
+    private final OutputStream out;
+    private ByteBuffer buffer;
+
+    BinarySummaryWriter(final OutputStream out, final boolean multiple) throws IOException {
+        this.out = new BufferedOutputStream(out);
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.putInt(MAGIC);
+        this.buffer.putInt(multiple ? VERSION_MULTIPLE : VERSION);
+        this.flushRecord();
+    }
+
+    // record: name, status byte, then either the error or the count and eleven doubles (NaN when undefined)
+    @Override
+    public void write(final DatasetFit fit) throws IOException {
+        final byte[] name = fit.getName().getBytes(StandardCharsets.UTF_8);
+        if (fit.isFailed()) {
+            final byte[] error = fit.getError().getBytes(StandardCharsets.UTF_8);
+            this.ensureCapacity(2 * Integer.BYTES + 1 + name.length + error.length);
+            this.putBytes(name);
+            this.buffer.put(STATUS_FAILED);
+            this.putBytes(error);
+            this.flushRecord();
+            return;
+        }
+        if (fit.isMultiple()) {
+            this.writeMultiple(name, fit);
+            return;
+        }
+        final DataSummary summary = fit.getSummary();
+        final LinearRegressionCalculator.RegressionResult regression = summary.getRegression();
+        this.ensureCapacity(Integer.BYTES + 1 + name.length + Long.BYTES + VALUE_COUNT * Double.BYTES);
+        this.putBytes(name);
+        this.buffer.put(regression == null ? STATUS_TOO_FEW_POINTS : STATUS_FITTED);
+        this.buffer.putLong(summary.getValidCount());
+        if (regression == null) {
+            for (int i = 0; i < 7; i++) {
+                this.buffer.putDouble(Double.NaN);
+            }
+        } else {
+            this.buffer.putDouble(regression.getSlope());
+            this.buffer.putDouble(regression.getIntercept());
+            this.buffer.putDouble(regression.getRSquared());
+            this.buffer.putDouble(regression.getSlopeStandardError());
+            this.buffer.putDouble(regression.getInterceptStandardError());
+            this.buffer.putDouble(regression.getStandardError());
+            this.buffer.putDouble(regression.getResidualSumOfSquares());
+        }
+        final boolean empty = summary.isEmpty();
+        this.buffer.putDouble(empty ? Double.NaN : summary.getMinX());
+        this.buffer.putDouble(empty ? Double.NaN : summary.getMaxX());
+        this.buffer.putDouble(empty ? Double.NaN : summary.getMinY());
+        this.buffer.putDouble(empty ? Double.NaN : summary.getMaxY());
+        this.flushRecord();
+    }
+
+    // version 2 record: name, status, count, predictor count k, then six doubles and the k coefficients
+    // followed by their k standard errors (NaN when there is no unique fit)
+    private void writeMultiple(final byte[] name, final DatasetFit fit) throws IOException {
+        final LinearRegressionCalculator.MultipleRegressionResult regression = fit.getMultipleRegression();
+        final int predictorCount = fit.getPredictorCount();
+        this.ensureCapacity(Integer.BYTES + 1 + name.length + Long.BYTES + Integer.BYTES
+            + (MULTIPLE_VALUE_COUNT + 2 * predictorCount) * Double.BYTES);
+        this.putBytes(name);
+        this.buffer.put(regression == null ? STATUS_TOO_FEW_POINTS : STATUS_FITTED);
+        this.buffer.putLong(fit.getCount());
+        this.buffer.putInt(predictorCount);
+        if (regression == null) {
+            for (int i = 0; i < MULTIPLE_VALUE_COUNT + 2 * predictorCount; i++) {
+                this.buffer.putDouble(Double.NaN);
+            }
+        } else {
+            this.buffer.putDouble(regression.getIntercept());
+            this.buffer.putDouble(regression.getRSquared());
+            this.buffer.putDouble(regression.getAdjustedRSquared());
+            this.buffer.putDouble(regression.getInterceptStandardError());
+            this.buffer.putDouble(regression.getStandardError());
+            this.buffer.putDouble(regression.getResidualSumOfSquares());
+            for (int predictor = 0; predictor < predictorCount; predictor++) {
+                this.buffer.putDouble(regression.getCoefficient(predictor));
+            }
+            for (int predictor = 0; predictor < predictorCount; predictor++) {
+                this.buffer.putDouble(regression.getCoefficientStandardError(predictor));
+            }
+        }
+        this.flushRecord();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    private void putBytes(final byte[] bytes) {
+        this.buffer.putInt(bytes.length);
+        this.buffer.put(bytes);
+    }
+
+    private void ensureCapacity(final int size) {
+        if (size > this.buffer.capacity()) {
+            this.buffer = ByteBuffer.allocate(Integer.highestOneBit(size) << 1).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private void flushRecord() throws IOException {
+        this.out.write(this.buffer.array(), 0, this.buffer.position());
+        this.buffer.clear();
+    }
+}
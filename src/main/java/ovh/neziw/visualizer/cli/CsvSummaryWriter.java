@@ -0,0 +1,145 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.regression.DataSummary;
+
+final class CsvSummaryWriter implements SummaryWriter {
+
+    private final Writer writer;
+    private final boolean multiple;
+
+    CsvSummaryWriter(final OutputStream out, final boolean multiple) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.multiple = multiple;
+        if (multiple) {
+            // the per-predictor lists are separated by semicolons, so they stay one field each
+            this.writer.append("file,n,k,intercept,r_squared,adjusted_r_squared,intercept_se,residual_se,rss,"
+                + "coefficients,coefficient_se,error\n");
+        } else {
+            this.writer.append("file,n,slope,intercept,r_squared,slope_se,intercept_se,residual_se,rss,"
+                + "min_x,max_x,min_y,max_y,error\n");
+        }
+    }
+
+    @Override
+    public void write(final DatasetFit fit) throws IOException {
+        this.appendQuoted(fit.getName());
+        if (fit.isFailed()) {
+            this.writer.append(this.multiple ? ",,,,,,,,,,," : ",,,,,,,,,,,,,");
+            this.appendQuoted(fit.getError());
+            this.writer.append('\n');
+            return;
+        }
+        if (fit.isMultiple()) {
+            this.writeMultiple(fit);
+            return;
+        }
+        final DataSummary summary = fit.getSummary();
+        final LinearRegressionCalculator.RegressionResult regression = summary.getRegression();
+        this.writer.append(',').append(Integer.toString(summary.getValidCount()));
+        if (regression == null) {
+            this.writer.append(",,,,,,,");
+        } else {
+            this.appendNumber(regression.getSlope());
+            this.appendNumber(regression.getIntercept());
+            this.appendNumber(regression.getRSquared());
+            this.appendNumber(regression.getSlopeStandardError());
+            this.appendNumber(regression.getInterceptStandardError());
+            this.appendNumber(regression.getStandardError());
+            this.appendNumber(regression.getResidualSumOfSquares());
+        }
+        if (summary.isEmpty()) {
+            this.writer.append(",,,,");
+        } else {
+            this.appendNumber(summary.getMinX());
+            this.appendNumber(summary.getMaxX());
+            this.appendNumber(summary.getMinY());
+            this.appendNumber(summary.getMaxY());
+        }
+        this.writer.append(",\n");
+    }
+
+    private void writeMultiple(final DatasetFit fit) throws IOException {
+        final LinearRegressionCalculator.MultipleRegressionResult regression = fit.getMultipleRegression();
+        this.writer.append(',').append(Long.toString(fit.getCount()))
+            .append(',').append(Integer.toString(fit.getPredictorCount()));
+        if (regression == null) {
+            this.writer.append(",,,,,,,,,\n");
+            return;
+        }
+        this.appendNumber(regression.getIntercept());
+        this.appendNumber(regression.getRSquared());
+        this.appendNumber(regression.getAdjustedRSquared());
+        this.appendNumber(regression.getInterceptStandardError());
+        this.appendNumber(regression.getStandardError());
+        this.appendNumber(regression.getResidualSumOfSquares());
+        this.writer.append(',');
+        for (int predictor = 0; predictor < regression.getPredictorCount(); predictor++) {
+            this.appendListNumber(predictor, regression.getCoefficient(predictor));
+        }
+        this.writer.append(',');
+        for (int predictor = 0; predictor < regression.getPredictorCount(); predictor++) {
+            this.appendListNumber(predictor, regression.getCoefficientStandardError(predictor));
+        }
+        this.writer.append(",\n");
+    }
+
+    private void appendListNumber(final int index, final double value) throws IOException {
+        if (index > 0) {
+            this.writer.append(';');
+        }
+        if (Double.isFinite(value)) {
+            this.writer.append(Double.toString(value));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private void appendNumber(final double value) throws IOException {
+        this.writer.append(',');
+        // undefined statistics stay empty, the same as in the Excel export
+        if (Double.isFinite(value)) {
+            this.writer.append(Double.toString(value));
+        }
+    }
+
+    private void appendQuoted(final String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            this.writer.append(value);
+            return;
+        }
+        this.writer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
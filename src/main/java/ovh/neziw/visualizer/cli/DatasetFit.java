@@ -0,0 +1,97 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.regression.DataSummary;
+
+final class DatasetFit {
+
+    private final String name;
+    private final DataSummary summary;
+    private final LinearRegressionCalculator.MultipleRegressionResult multipleRegression;
+    private final long count;
+    private final int predictorCount;
+    private final String error;
+
+    private DatasetFit(final String name, final DataSummary summary,
+                       final LinearRegressionCalculator.MultipleRegressionResult multipleRegression,
+                       final long count, final int predictorCount, final String error) {
+        this.name = name;
+        this.summary = summary;
+        this.multipleRegression = multipleRegression;
+        this.count = count;
+        this.predictorCount = predictorCount;
+        this.error = error;
+    }
+
+    static DatasetFit success(final String name, final DataSummary summary) {
+        return new DatasetFit(name, summary, null, summary.getValidCount(), 1, null);
+    }
+
+    // the result is null when there are too few rows or the predictors are collinear
+    static DatasetFit multiple(final String name, final long count, final int predictorCount,
+                               final LinearRegressionCalculator.MultipleRegressionResult result) {
+        return new DatasetFit(name, null, result, count, predictorCount, null);
+    }
+
+    static DatasetFit failure(final String name, final Exception exception) {
+        final String message = exception.getMessage();
+        // summaries keep one line per dataset
+        return new DatasetFit(name, null, null, 0, 0, message == null || message.isEmpty()
+            ? exception.getClass().getSimpleName() : message.replaceAll("\\s*\\R\\s*", " "));
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    DataSummary getSummary() {
+        return this.summary;
+    }
+
+    LinearRegressionCalculator.MultipleRegressionResult getMultipleRegression() {
+        return this.multipleRegression;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    int getPredictorCount() {
+        return this.predictorCount;
+    }
+
+    String getError() {
+        return this.error;
+    }
+
+    boolean isFailed() {
+        return this.error != null;
+    }
+
+    boolean isMultiple() {
+        return this.error == null && this.summary == null;
+    }
+}
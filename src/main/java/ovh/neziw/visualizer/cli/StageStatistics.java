@@ -0,0 +1,79 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+final class StageStatistics {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final String name;
+    private final String itemUnit;
+    private final String volumeUnit;
+    private final double volumeScale;
+    private final int threads;
+    private final LongAdder items = new LongAdder();
+    private final LongAdder volume = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    StageStatistics(final String name, final String itemUnit, final String volumeUnit,
+                    final double volumeScale, final int threads) {
+        this.name = name;
+        this.itemUnit = itemUnit;
+        this.volumeUnit = volumeUnit;
+        this.volumeScale = volumeScale;
+        this.threads = threads;
+    }
+
+    void record(final long itemVolume, final long nanos) {
+        this.items.increment();
+        this.volume.add(itemVolume);
+        this.busyNanos.add(nanos);
+    }
+
+    // rates are per second of the stage's own threads being busy, so comparing them with the
+    // overall rate shows which stage limits the pipeline
+    String format() {
+        final long count = this.items.sum();
+        final double busySeconds = this.busyNanos.sum() / NANOS_PER_SECOND;
+        final double stageSeconds = busySeconds / this.threads;
+        final StringBuilder builder = new StringBuilder(String.format(Locale.ROOT,
+            "%-6s %d %s", this.name + ":", count, this.itemUnit));
+        if (this.volumeUnit != null) {
+            builder.append(String.format(Locale.ROOT, ", %.1f %s", this.volume.sum() / this.volumeScale, this.volumeUnit));
+        }
+        builder.append(String.format(Locale.ROOT, ", busy %.3f s on %d %s", busySeconds, this.threads,
+            this.threads == 1 ? "thread" : "threads"));
+        if (stageSeconds > 0.0) {
+            builder.append(String.format(Locale.ROOT, ", %.1f %s/s", count / stageSeconds, this.itemUnit));
+            if (this.volumeUnit != null) {
+                builder.append(String.format(Locale.ROOT, ", %.1f %s/s",
+                    this.volume.sum() / this.volumeScale / stageSeconds, this.volumeUnit));
+            }
+        }
+        return builder.toString();
+    }
+}
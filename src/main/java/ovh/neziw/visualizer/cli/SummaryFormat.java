@@ -0,0 +1,61 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+enum SummaryFormat {
+
+    TEXT {
+        @Override
+        SummaryWriter open(final OutputStream out, final boolean multiple) {
+            return new TextSummaryWriter(out);
+        }
+    },
+    CSV {
+        @Override
+        SummaryWriter open(final OutputStream out, final boolean multiple) throws IOException {
+            return new CsvSummaryWriter(out, multiple);
+        }
+    },
+    BINARY {
+        @Override
+        SummaryWriter open(final OutputStream out, final boolean multiple) throws IOException {
+            return new BinarySummaryWriter(out, multiple);
+        }
+    };
+
+    // multiple regression records have their own CSV columns and binary version
+    abstract SummaryWriter open(OutputStream out, boolean multiple) throws IOException;
+
+    static SummaryFormat parse(final String name) {
+        for (final SummaryFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown summary format: " + name);
+    }
+}
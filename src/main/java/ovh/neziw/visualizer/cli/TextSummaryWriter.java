@@ -0,0 +1,96 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.regression.DataSummary;
+
+final class TextSummaryWriter implements SummaryWriter {
+
+    private final Writer writer;
+
+    TextSummaryWriter(final OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(final DatasetFit fit) throws IOException {
+        this.writer.append(fit.getName()).append(": ");
+        if (fit.isFailed()) {
+            this.writer.append("error: ").append(fit.getError()).append('\n');
+            return;
+        }
+        if (fit.isMultiple()) {
+            this.writeMultiple(fit);
+            return;
+        }
+        final DataSummary summary = fit.getSummary();
+        final LinearRegressionCalculator.RegressionResult regression = summary.getRegression();
+        this.writer.append("n=").append(Integer.toString(summary.getValidCount()));
+        if (regression == null) {
+            this.writer.append(", not enough points\n");
+            return;
+        }
+        this.writer.append(String.format(Locale.ROOT,
+            ", y = %.6g * x + %.6g, slope SE=%.4g, intercept SE=%.4g, R²=%.6f, residual SE=%.4g%n",
+            regression.getSlope(), regression.getIntercept(), regression.getSlopeStandardError(),
+            regression.getInterceptStandardError(), regression.getRSquared(), regression.getStandardError()));
+    }
+
+    private void writeMultiple(final DatasetFit fit) throws IOException {
+        final LinearRegressionCalculator.MultipleRegressionResult regression = fit.getMultipleRegression();
+        this.writer.append("n=").append(Long.toString(fit.getCount()))
+            .append(", k=").append(Integer.toString(fit.getPredictorCount()));
+        if (regression == null) {
+            this.writer.append(", no unique fit (too few rows or collinear predictors)\n");
+            return;
+        }
+        this.writer.append(String.format(Locale.ROOT, ", y = %.6g", regression.getIntercept()));
+        for (int predictor = 0; predictor < regression.getPredictorCount(); predictor++) {
+            this.writer.append(String.format(Locale.ROOT, " + %.6g * x%d", regression.getCoefficient(predictor),
+                predictor + 1));
+        }
+        this.writer.append(", coefficient SE=[");
+        for (int predictor = 0; predictor < regression.getPredictorCount(); predictor++) {
+            this.writer.append(predictor == 0 ? "" : ", ").append(String.format(Locale.ROOT, "%.4g",
+                regression.getCoefficientStandardError(predictor)));
+        }
+        this.writer.append(String.format(Locale.ROOT,
+            "], intercept SE=%.4g, R²=%.6f, adjusted R²=%.6f, residual SE=%.4g%n",
+            regression.getInterceptStandardError(), regression.getRSquared(), regression.getAdjustedRSquared(),
+            regression.getStandardError()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+}
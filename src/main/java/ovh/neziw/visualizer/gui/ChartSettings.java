@@ -25,6 +25,8 @@ package ovh.neziw.visualizer.gui;
 
 import java.awt.Color;
 import java.awt.Shape;
+import ovh.neziw.visualizer.regression.PolynomialModel;
+import ovh.neziw.visualizer.regression.RegressionModel;
 
 public class ChartSettings {
 
@@ -33,6 +35,9 @@ public class ChartSettings {
     private Color regressionLineColor = Color.RED;
     private Shape dataPointShape = new java.awt.geom.Ellipse2D.Double(-3, -3, 6, 6);
     private boolean dashedLine = false;
+    private boolean densityMode = false;
+    private boolean showBands = false;
+    private RegressionModel model = PolynomialModel.LINEAR;
 
     public double getPaddingPercent() {
         return this.paddingPercent;
@@ -73,5 +78,28 @@ public class ChartSettings {
     public void setDashedLine(final boolean dashedLine) {
         this.dashedLine = dashedLine;
     }
-}
 
+    public boolean isDensityMode() {
+        return this.densityMode;
+    }
+
+    public void setDensityMode(final boolean densityMode) {
+        this.densityMode = densityMode;
+    }
+
+    public boolean isShowBands() {
+        return this.showBands;
+    }
+
+    public void setShowBands(final boolean showBands) {
+        this.showBands = showBands;
+    }
+
+    public RegressionModel getModel() {
+        return this.model;
+    }
+
+    public void setModel(final RegressionModel model) {
+        this.model = model;
+    }
+}
@@ -25,25 +25,34 @@ package ovh.neziw.visualizer.gui;
 
 import java.awt.Color;
 import java.awt.Shape;
+import java.util.List;
+import java.util.function.Consumer;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JColorChooser;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
 import javax.swing.SpinnerNumberModel;
+import ovh.neziw.visualizer.regression.PolynomialModel;
+import ovh.neziw.visualizer.regression.RegressionModel;
 
 public class ChartSettingsPanel extends JPanel {
 
     private final ChartSettings settings;
-    private final Runnable onSettingsChanged;
+    private final Consumer<ChartChange> onSettingsChanged;
+    private final List<RegressionModel> models = RegressionModel.available();
     private JSpinner paddingSpinner;
     private JButton dataPointColorButton;
     private JButton regressionLineColorButton;
     private JCheckBox dashedLineCheckBox;
+    private JCheckBox densityModeCheckBox;
+    private JCheckBox bandsCheckBox;
+    private JComboBox<String> modelComboBox;
 
-    public ChartSettingsPanel(final ChartSettings settings, final Runnable onSettingsChanged) {
+    public ChartSettingsPanel(final ChartSettings settings, final Consumer<ChartChange> onSettingsChanged) {
         this.settings = settings;
         this.onSettingsChanged = onSettingsChanged;
         this.setupPanel();
@@ -97,7 +106,7 @@ public class ChartSettingsPanel extends JPanel {
         this.paddingSpinner.addChangeListener(e -> {
             final double value = ((Number) this.paddingSpinner.getValue()).doubleValue();
             this.settings.setPaddingPercent(value / 100.0);
-            this.onSettingsChanged.run();
+            this.onSettingsChanged.accept(ChartChange.AXIS_RANGE);
         });
         this.add(this.paddingSpinner);
 
@@ -106,7 +115,7 @@ public class ChartSettingsPanel extends JPanel {
             color -> {
                 this.settings.setDataPointColor(color);
                 this.updateButtonColors();
-                this.onSettingsChanged.run();
+                this.onSettingsChanged.accept(ChartChange.STYLE);
             });
         this.add(this.dataPointColorButton);
 
@@ -115,7 +124,7 @@ public class ChartSettingsPanel extends JPanel {
             color -> {
                 this.settings.setRegressionLineColor(color);
                 this.updateButtonColors();
-                this.onSettingsChanged.run();
+                this.onSettingsChanged.accept(ChartChange.STYLE);
             });
         this.add(this.regressionLineColorButton);
 
@@ -126,20 +135,66 @@ public class ChartSettingsPanel extends JPanel {
             this.settings.isDashedLine());
         this.dashedLineCheckBox.addActionListener(e -> {
             this.settings.setDashedLine(this.dashedLineCheckBox.isSelected());
-            this.onSettingsChanged.run();
+            this.onSettingsChanged.accept(ChartChange.STYLE);
         });
         this.add(this.dashedLineCheckBox);
+
+        this.densityModeCheckBox = new JCheckBox("Mapa gęstości",
+            this.settings.isDensityMode());
+        this.densityModeCheckBox.addActionListener(e -> {
+            this.settings.setDensityMode(this.densityModeCheckBox.isSelected());
+            this.onSettingsChanged.accept(ChartChange.STYLE);
+        });
+        this.add(this.densityModeCheckBox);
+
+        this.bandsCheckBox = new JCheckBox("Przedziały 95%",
+            this.settings.isShowBands());
+        this.bandsCheckBox.addActionListener(e -> {
+            this.settings.setShowBands(this.bandsCheckBox.isSelected());
+            this.onSettingsChanged.accept(ChartChange.AXIS_RANGE);
+        });
+        this.add(this.bandsCheckBox);
+
+        this.add(new JLabel("Model:"));
+        final String[] modelNames = new String[this.models.size()];
+        for (int i = 0; i < modelNames.length; i++) {
+            modelNames[i] = this.models.get(i).getName();
+        }
+        this.modelComboBox = new JComboBox<>(modelNames);
+        this.modelComboBox.setSelectedIndex(this.models.indexOf(this.settings.getModel()));
+        // every model is fitted from sums gathered with the data, so switching only redraws the curve
+        this.modelComboBox.addActionListener(e -> {
+            final RegressionModel model = this.models.get(this.modelComboBox.getSelectedIndex());
+            if (model != this.settings.getModel()) {
+                this.settings.setModel(model);
+                this.updateBandsAvailability();
+                this.onSettingsChanged.accept(ChartChange.AXIS_RANGE);
+            }
+        });
+        this.add(this.modelComboBox);
+        this.updateBandsAvailability();
+    }
+
+    // the bands come from the straight line's standard errors, the curve models have none
+    private void updateBandsAvailability() {
+        final boolean linear = this.settings.getModel() == PolynomialModel.LINEAR;
+        this.bandsCheckBox.setEnabled(linear);
+        this.bandsCheckBox.setToolTipText(linear ? null : "Przedziały są dostępne tylko dla modelu liniowego");
     }
 
     public void refreshUI() {
         this.paddingSpinner.setValue(this.settings.getPaddingPercent() * 100.0);
         this.updateButtonColors();
         this.dashedLineCheckBox.setSelected(this.settings.isDashedLine());
+        this.densityModeCheckBox.setSelected(this.settings.isDensityMode());
+        this.bandsCheckBox.setSelected(this.settings.isShowBands());
+        this.modelComboBox.setSelectedIndex(this.models.indexOf(this.settings.getModel()));
+        this.updateBandsAvailability();
     }
 
     private JButton createColorButton(final String text,
                                       final java.util.function.Supplier<Color> colorSupplier,
-                                      final java.util.function.Consumer<Color> onColorSelected) {
+                                      final Consumer<Color> onColorSelected) {
         final JButton button = new JButton(text);
         final Color initialColor = colorSupplier.get();
         button.setBackground(initialColor);
@@ -199,7 +254,7 @@ public class ChartSettingsPanel extends JPanel {
             for (int i = 0; i < shapeNames.length; i++) {
                 if (shapeNames[i].equals(selected)) {
                     this.settings.setDataPointShape(shapes[i]);
-                    this.onSettingsChanged.run();
+                    this.onSettingsChanged.accept(ChartChange.STYLE);
                     break;
                 }
             }
@@ -23,37 +23,69 @@
  */
 package ovh.neziw.visualizer.gui;
 
-import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import ovh.neziw.visualizer.DataTableModel;
-import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.PointColumns;
 import ovh.neziw.visualizer.RegressionChart;
+import ovh.neziw.visualizer.regression.DataSummary;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
 
 public class ChartUpdater {
 
+    private static final Logger LOGGER = Logger.getLogger(ChartUpdater.class.getName());
+    private static final int DEBOUNCE_DELAY_MS = 40;
+
     private final DataTableModel tableModel;
     private final RegressionChart chart;
+    private final Timer debounceTimer;
+    private final ExecutorService executor;
+    private long generation;
 
     public ChartUpdater(final DataTableModel tableModel, final RegressionChart chart) {
         this.tableModel = tableModel;
         this.chart = chart;
+        this.debounceTimer = new Timer(DEBOUNCE_DELAY_MS, e -> this.updateChart());
+        this.debounceTimer.setRepeats(false);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "chart-updater");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    public void updateChart() {
-        final List<DataTableModel.DataPoint> validPoints = this.tableModel.getValidDataPoints();
-        final LinearRegressionCalculator.RegressionResult regression = this.calculateRegression(validPoints);
-        this.chart.updateChart(validPoints, regression);
+    public void requestUpdate() {
+        this.debounceTimer.restart();
     }
 
-    public void applySettings() {
-        this.chart.applySettings();
-        this.updateChart();
+    public void updateChart() {
+        this.debounceTimer.stop();
+        final long updateGeneration = ++this.generation;
+        final PointColumns snapshot = this.tableModel.getColumns().snapshot();
+        final RegressionStatistics statistics = this.tableModel.getStatistics().copy();
+        this.executor.execute(() -> {
+            try {
+                final DataSummary summary = DataSummary.scanRanges(snapshot, statistics);
+                SwingUtilities.invokeLater(() -> {
+                    if (updateGeneration == this.generation) {
+                        this.chart.updateChart(snapshot, summary);
+                    }
+                });
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.SEVERE, "Error while recalculating chart data", exception);
+            }
+        });
     }
 
-    private LinearRegressionCalculator.RegressionResult calculateRegression(
-        final List<DataTableModel.DataPoint> validPoints) {
-        if (validPoints.size() >= 2) {
-            return LinearRegressionCalculator.calculate(validPoints);
+    public void applySettings(final ChartChange change) {
+        if (change == ChartChange.DATA) {
+            this.updateChart();
+        } else {
+            this.chart.applySettings(change);
         }
-        return null;
     }
 }
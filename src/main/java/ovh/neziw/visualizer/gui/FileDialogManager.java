@@ -26,6 +26,7 @@ package ovh.neziw.visualizer.gui;
 import java.io.File;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
+import javax.swing.filechooser.FileFilter;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
 public class FileDialogManager {
@@ -33,6 +34,8 @@ public class FileDialogManager {
     private static final String JSON_EXTENSION = "json";
     private static final String JSON_DESCRIPTION = "Pliki JSON (*.json)";
     private static final String DEFAULT_FILENAME = "dane.json";
+    private static final String BINARY_EXTENSION = "lrvb";
+    private static final String BINARY_DESCRIPTION = "Pliki binarne (*.lrvb)";
     private static final String EXCEL_EXTENSION = "xlsx";
     private static final String EXCEL_DESCRIPTION = "Pliki Excel (*.xlsx)";
     private static final String DEFAULT_EXCEL_FILENAME = "dane.xlsx";
@@ -45,19 +48,22 @@ public class FileDialogManager {
 
     public File showSaveDialog() {
         final JFileChooser fileChooser = this.createFileChooser();
-        fileChooser.setDialogTitle("Zapisz dane do pliku JSON");
+        fileChooser.setDialogTitle("Zapisz dane do pliku");
         fileChooser.setSelectedFile(new File(DEFAULT_FILENAME));
         final int result = fileChooser.showSaveDialog(this.parentFrame);
         if (result == JFileChooser.APPROVE_OPTION) {
             final File file = fileChooser.getSelectedFile();
-            return this.ensureJsonExtension(file);
+            if (this.hasExtension(file, BINARY_EXTENSION) || this.isBinaryFilter(fileChooser.getFileFilter())) {
+                return this.ensureExtension(file, BINARY_EXTENSION);
+            }
+            return this.ensureExtension(file, JSON_EXTENSION);
         }
         return null;
     }
 
     public File showOpenDialog() {
         final JFileChooser fileChooser = this.createFileChooser();
-        fileChooser.setDialogTitle("Wczytaj dane z pliku JSON");
+        fileChooser.setDialogTitle("Wczytaj dane z pliku");
         final int result = fileChooser.showOpenDialog(this.parentFrame);
         if (result == JFileChooser.APPROVE_OPTION) {
             return fileChooser.getSelectedFile();
@@ -67,7 +73,10 @@ public class FileDialogManager {
 
     private JFileChooser createFileChooser() {
         final JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setFileFilter(new FileNameExtensionFilter(JSON_DESCRIPTION, JSON_EXTENSION));
+        final FileNameExtensionFilter jsonFilter = new FileNameExtensionFilter(JSON_DESCRIPTION, JSON_EXTENSION);
+        fileChooser.addChoosableFileFilter(jsonFilter);
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter(BINARY_DESCRIPTION, BINARY_EXTENSION));
+        fileChooser.setFileFilter(jsonFilter);
         return fileChooser;
     }
 
@@ -79,21 +88,23 @@ public class FileDialogManager {
         final int result = fileChooser.showSaveDialog(this.parentFrame);
         if (result == JFileChooser.APPROVE_OPTION) {
             final File file = fileChooser.getSelectedFile();
-            return this.ensureExcelExtension(file);
+            return this.ensureExtension(file, EXCEL_EXTENSION);
         }
         return null;
     }
 
-    private File ensureJsonExtension(final File file) {
-        if (!file.getName().toLowerCase().endsWith("." + JSON_EXTENSION)) {
-            return new File(file.getParent(), file.getName() + "." + JSON_EXTENSION);
-        }
-        return file;
+    private boolean isBinaryFilter(final FileFilter filter) {
+        return filter instanceof FileNameExtensionFilter
+            && BINARY_EXTENSION.equals(((FileNameExtensionFilter) filter).getExtensions()[0]);
+    }
+
+    private boolean hasExtension(final File file, final String extension) {
+        return file.getName().toLowerCase().endsWith("." + extension);
     }
 
-    private File ensureExcelExtension(final File file) {
-        if (!file.getName().toLowerCase().endsWith("." + EXCEL_EXTENSION)) {
-            return new File(file.getParent(), file.getName() + "." + EXCEL_EXTENSION);
+    private File ensureExtension(final File file, final String extension) {
+        if (!this.hasExtension(file, extension)) {
+            return new File(file.getParent(), file.getName() + "." + extension);
         }
         return file;
     }
@@ -0,0 +1,106 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.gui;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+
+public class ProgressDialog extends JDialog {
+
+    private static final int PROGRESS_SCALE = 1000;
+
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+    private final JButton cancelButton;
+    private final Runnable onCancel;
+
+    public ProgressDialog(final JFrame owner, final String title, final Runnable onCancel) {
+        super(owner, title, true);
+        this.onCancel = onCancel;
+        this.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent e) {
+                ProgressDialog.this.cancel();
+            }
+        });
+
+        this.statusLabel = new JLabel("Przygotowywanie...");
+        this.progressBar = new JProgressBar(0, PROGRESS_SCALE);
+        this.progressBar.setIndeterminate(true);
+        this.progressBar.setPreferredSize(new Dimension(320, this.progressBar.getPreferredSize().height));
+        this.cancelButton = new JButton("Anuluj");
+        this.cancelButton.addActionListener(e -> this.cancel());
+
+        final JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
+        buttonPanel.add(this.cancelButton);
+
+        final JPanel contentPanel = new JPanel(new BorderLayout(0, 8));
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 12));
+        contentPanel.add(this.statusLabel, BorderLayout.NORTH);
+        contentPanel.add(this.progressBar, BorderLayout.CENTER);
+        contentPanel.add(buttonPanel, BorderLayout.SOUTH);
+        this.setContentPane(contentPanel);
+        this.setResizable(false);
+        this.pack();
+        this.setLocationRelativeTo(owner);
+    }
+
+    public void setProgress(final long completed, final long total) {
+        if (total > 0) {
+            final int value = (int) Math.min(PROGRESS_SCALE, completed * PROGRESS_SCALE / total);
+            this.progressBar.setIndeterminate(false);
+            this.progressBar.setValue(value);
+            this.progressBar.setStringPainted(true);
+            this.progressBar.setString(value / 10 + "%");
+            if (this.cancelButton.isEnabled()) {
+                this.statusLabel.setText("Przetworzone wiersze: " + completed + " / " + total);
+            }
+        } else {
+            this.progressBar.setIndeterminate(true);
+            if (this.cancelButton.isEnabled()) {
+                this.statusLabel.setText("Przetworzone wiersze: " + completed);
+            }
+        }
+    }
+
+    private void cancel() {
+        if (!this.cancelButton.isEnabled()) {
+            return;
+        }
+        this.cancelButton.setEnabled(false);
+        this.statusLabel.setText("Anulowanie...");
+        this.onCancel.run();
+    }
+}
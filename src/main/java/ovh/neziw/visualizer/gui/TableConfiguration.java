@@ -26,6 +26,12 @@ package ovh.neziw.visualizer.gui;
 import java.awt.Dimension;
 import javax.swing.DropMode;
 import javax.swing.JTable;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import ovh.neziw.visualizer.DataTableModel;
 
 public class TableConfiguration {
@@ -48,21 +54,43 @@ public class TableConfiguration {
         this.table.setShowGrid(false);
         this.table.setIntercellSpacing(new Dimension(0, 0));
 
-        this.setupRenderer();
-        this.setupColumnWidths();
+        this.setupColumns();
     }
 
-    private void setupRenderer() {
+    private void setupColumns() {
         final TableGridRenderer renderer = new TableGridRenderer();
-        for (int i = 0; i < this.table.getColumnCount(); i++) {
-            this.table.getColumnModel().getColumn(i).setCellRenderer(renderer);
+        final TableColumnModel columnModel = this.table.getColumnModel();
+        for (int i = 0; i < columnModel.getColumnCount(); i++) {
+            this.configureColumn(columnModel.getColumn(i), renderer);
         }
+        // the table rebuilds its columns whenever the group column is shown or hidden
+        columnModel.addColumnModelListener(new TableColumnModelListener() {
+            @Override
+            public void columnAdded(final TableColumnModelEvent e) {
+                TableConfiguration.this.configureColumn(columnModel.getColumn(e.getToIndex()), renderer);
+            }
+
+            @Override
+            public void columnRemoved(final TableColumnModelEvent e) {
+            }
+
+            @Override
+            public void columnMoved(final TableColumnModelEvent e) {
+            }
+
+            @Override
+            public void columnMarginChanged(final ChangeEvent e) {
+            }
+
+            @Override
+            public void columnSelectionChanged(final ListSelectionEvent e) {
+            }
+        });
     }
 
-    private void setupColumnWidths() {
-        for (int i = 0; i < this.table.getColumnCount(); i++) {
-            this.table.getColumnModel().getColumn(i).setPreferredWidth(COLUMN_WIDTH);
-        }
+    private void configureColumn(final TableColumn column, final TableGridRenderer renderer) {
+        column.setCellRenderer(renderer);
+        column.setPreferredWidth(COLUMN_WIDTH);
     }
 
     public void setupDragAndDrop() {
@@ -71,7 +99,7 @@ public class TableConfiguration {
         this.table.setTransferHandler(new TableDragDropHandler(this.tableModel));
     }
 
-    public void setupDeleteHandler(final Runnable onDataChanged) {
-        new TableDeleteHandler(this.table, this.tableModel, onDataChanged);
+    public void setupDeleteHandler() {
+        new TableDeleteHandler(this.table, this.tableModel);
     }
 }
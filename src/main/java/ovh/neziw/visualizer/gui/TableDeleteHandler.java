@@ -37,12 +37,10 @@ public class TableDeleteHandler {
 
     private final JTable table;
     private final DataTableModel tableModel;
-    private final Runnable onDataChanged;
 
-    public TableDeleteHandler(final JTable table, final DataTableModel tableModel, final Runnable onDataChanged) {
+    public TableDeleteHandler(final JTable table, final DataTableModel tableModel) {
         this.table = table;
         this.tableModel = tableModel;
-        this.onDataChanged = onDataChanged;
         this.setupDeleteKeySupport();
     }
 
@@ -66,12 +64,16 @@ public class TableDeleteHandler {
         final int[] selectedColumns = this.table.getSelectedColumns();
 
         if (selectedRows.length > 0 && selectedColumns.length > 0) {
-            for (final int row : selectedRows) {
-                for (final int col : selectedColumns) {
-                    this.tableModel.setValueAt("", row, col);
+            this.tableModel.beginBatch();
+            try {
+                for (final int row : selectedRows) {
+                    for (final int col : selectedColumns) {
+                        this.tableModel.setValueAt("", row, col);
+                    }
                 }
+            } finally {
+                this.tableModel.commitBatch();
             }
-            this.onDataChanged.run();
         }
     }
 }
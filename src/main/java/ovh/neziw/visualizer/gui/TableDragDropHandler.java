@@ -115,18 +115,23 @@ public class TableDragDropHandler extends TransferHandler {
 
     private void pasteData(final String data, final int dropRow, final int dropCol) {
         final String[] lines = data.split("\n", -1);
-        int currentRow = dropRow;
-        for (final String line : lines) {
-            if (currentRow >= this.model.getRowCount()) break;
-            final String[] values = line.split("\t", -1);
-            int currentCol = dropCol;
-            for (final String value : values) {
-                if (currentCol >= this.model.getColumnCount()) break;
-                final String trimmedValue = value.trim();
-                this.model.setValueAt(trimmedValue.isEmpty() ? "" : trimmedValue, currentRow, currentCol);
-                currentCol++;
+        this.model.beginBatch();
+        try {
+            this.model.ensureRowCount(dropRow + lines.length);
+            int currentRow = dropRow;
+            for (final String line : lines) {
+                final String[] values = line.split("\t", -1);
+                int currentCol = dropCol;
+                for (final String value : values) {
+                    if (currentCol >= this.model.getColumnCount()) break;
+                    final String trimmedValue = value.trim();
+                    this.model.setValueAt(trimmedValue.isEmpty() ? "" : trimmedValue, currentRow, currentCol);
+                    currentCol++;
+                }
+                currentRow++;
             }
-            currentRow++;
+        } finally {
+            this.model.commitBatch();
         }
     }
 
@@ -153,12 +158,17 @@ public class TableDragDropHandler extends TransferHandler {
             return;
         }
         if (!this.isOverlapping(dropRow, dropCol)) {
-            for (final int row : this.sourceRows) {
-                for (final int col : this.sourceColumns) {
-                    if (row < this.model.getRowCount() && col < this.model.getColumnCount()) {
-                        this.model.setValueAt("", row, col);
+            this.model.beginBatch();
+            try {
+                for (final int row : this.sourceRows) {
+                    for (final int col : this.sourceColumns) {
+                        if (row < this.model.getRowCount() && col < this.model.getColumnCount()) {
+                            this.model.setValueAt("", row, col);
+                        }
                     }
                 }
+            } finally {
+                this.model.commitBatch();
             }
         }
     }
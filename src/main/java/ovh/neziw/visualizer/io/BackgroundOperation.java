@@ -0,0 +1,92 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.io;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.swing.JFrame;
+import javax.swing.SwingWorker;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.gui.ProgressDialog;
+
+abstract class BackgroundOperation<T> extends SwingWorker<T, long[]> {
+
+    private final ProgressDialog dialog;
+    private volatile boolean cancelRequested;
+
+    BackgroundOperation(final JFrame parentFrame, final String title) {
+        this.dialog = new ProgressDialog(parentFrame, title, () -> this.cancelRequested = true);
+    }
+
+    void start() {
+        this.execute();
+        // done() runs on the EDT, so it cannot dispose the dialog before it has been shown
+        if (!this.isDone()) {
+            this.dialog.setVisible(true);
+        }
+    }
+
+    protected abstract T perform(ProgressListener listener) throws Exception;
+
+    protected abstract void succeeded(T result);
+
+    protected abstract void failed(Exception exception);
+
+    protected void cancelled() {
+    }
+
+    @Override
+    protected final T doInBackground() throws Exception {
+        return this.perform((completed, total) -> {
+            if (this.cancelRequested) {
+                throw new InterruptedIOException("Operacja została anulowana");
+            }
+            this.publish(new long[]{completed, total});
+        });
+    }
+
+    @Override
+    protected final void process(final List<long[]> chunks) {
+        final long[] latest = chunks.get(chunks.size() - 1);
+        this.dialog.setProgress(latest[0], latest[1]);
+    }
+
+    @Override
+    protected final void done() {
+        this.dialog.dispose();
+        try {
+            this.succeeded(this.get());
+        } catch (final ExecutionException exception) {
+            if (this.cancelRequested) {
+                this.cancelled();
+                return;
+            }
+            final Throwable cause = exception.getCause();
+            this.failed(cause instanceof Exception ? (Exception) cause : exception);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
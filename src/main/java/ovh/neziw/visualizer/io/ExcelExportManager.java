@@ -24,13 +24,16 @@
 package ovh.neziw.visualizer.io;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import ovh.neziw.visualizer.DataTableModel;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.ProgressListener;
 import ovh.neziw.visualizer.gui.FileDialogManager;
+import ovh.neziw.visualizer.serialization.AtomicFiles;
 
 public class ExcelExportManager {
 
@@ -49,15 +52,31 @@ public class ExcelExportManager {
         if (file == null) {
             return;
         }
-        try (final FileOutputStream outputStream = new FileOutputStream(file)) {
-            final List<DataTableModel.DataPoint> dataPoints = this.tableModel.getAllDataPoints();
-            this.exporter.exportToExcel(outputStream, dataPoints);
-            this.showSuccessMessage(parentFrame,
-                "Dane zostały wyeksportowane do pliku: " + file.getName());
-        } catch (final IOException exception) {
-            this.showErrorMessage(parentFrame,
-                "Błąd podczas eksportowania do pliku Excel:\n" + exception.getMessage());
-        }
+        final PointColumns columns = this.tableModel.getColumns();
+        new BackgroundOperation<Void>(parentFrame, "Eksportowanie do pliku Excel") {
+            @Override
+            protected Void perform(final ProgressListener listener) throws IOException {
+                // a failed or cancelled export discards its temporary file and leaves an existing workbook untouched
+                AtomicFiles.write(file, path -> {
+                    try (final OutputStream outputStream = Files.newOutputStream(path)) {
+                        ExcelExportManager.this.exporter.exportToExcel(outputStream, columns, listener);
+                    }
+                });
+                return null;
+            }
+
+            @Override
+            protected void succeeded(final Void result) {
+                ExcelExportManager.this.showSuccessMessage(parentFrame,
+                    "Dane zostały wyeksportowane do pliku: " + file.getName());
+            }
+
+            @Override
+            protected void failed(final Exception exception) {
+                ExcelExportManager.this.showErrorMessage(parentFrame,
+                    "Błąd podczas eksportowania do pliku Excel:\n" + exception.getMessage());
+            }
+        }.start();
     }
 
     private void showSuccessMessage(final JFrame parentFrame, final String message) {
@@ -23,9 +23,10 @@
  */
 package ovh.neziw.visualizer.io;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
@@ -44,45 +45,256 @@ import org.apache.poi.xddf.usermodel.chart.XDDFDataSourcesFactory;
 import org.apache.poi.xddf.usermodel.chart.XDDFNumericalDataSource;
 import org.apache.poi.xddf.usermodel.chart.XDDFScatterChartData;
 import org.apache.poi.xddf.usermodel.chart.XDDFValueAxis;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFChart;
 import org.apache.poi.xssf.usermodel.XSSFClientAnchor;
 import org.apache.poi.xssf.usermodel.XSSFDrawing;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import ovh.neziw.visualizer.DataColumns;
 import ovh.neziw.visualizer.DataTableModel;
 import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.regression.DataSummary;
+import ovh.neziw.visualizer.regression.GroupStatistics;
 
 public class ExcelExporter {
 
-    public void exportToExcel(final FileOutputStream outputStream,
+    public static final int DEFAULT_STREAMING_THRESHOLD =
+        Integer.getInteger("visualizer.excelStreamingThreshold", 20_000);
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int REGRESSION_LINE_POINTS = 50;
+    private static final int GENERAL_FORMAT_MAX_CHARS = 11;
+    private static final int MAX_SHEET_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final int streamingThreshold;
+
+    public ExcelExporter() {
+        this(DEFAULT_STREAMING_THRESHOLD);
+    }
+
+    public ExcelExporter(final int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    public void exportToExcel(final OutputStream outputStream,
+                              final PointColumns columns) throws IOException {
+        this.exportToExcel(outputStream, columns, ProgressListener.NONE);
+    }
+
+    public void exportToExcel(final OutputStream outputStream, final PointColumns columns,
+                              final ProgressListener listener) throws IOException {
+        this.exportToExcel(outputStream, columns,
+            LinearRegressionCalculator.DEFAULT_ENGINE.summarize(columns), listener);
+    }
+
+    public void exportToExcel(final OutputStream outputStream, final PointColumns columns,
+                              final DataSummary summary, final ProgressListener listener) throws IOException {
+        final boolean streaming = columns.size() >= this.streamingThreshold;
+        // checked up front: POI only fails at the first row past the limit, after most of the work
+        final long sheetRows = streaming ? streamingSheetRows(summary) : inMemorySheetRows(columns, summary);
+        if (sheetRows > MAX_SHEET_ROWS) {
+            throw new IOException("Arkusz \"Dane\" wymagałby " + sheetRows + " wierszy, a plik Excela mieści najwyżej "
+                + MAX_SHEET_ROWS);
+        }
+        if (streaming) {
+            this.exportStreaming(outputStream, columns, summary, listener);
+        } else {
+            this.exportInMemory(outputStream, columns, summary, listener);
+        }
+    }
+
+    // the header, every table row, then below them the valid points and the regression line
+    private static long inMemorySheetRows(final PointColumns columns, final DataSummary summary) {
+        final long tableRows = 1L + columns.size();
+        if (summary.getRegression() == null) {
+            return tableRows;
+        }
+        // mirrors exportInMemory: the valid points start four rows below the table, and the line's
+        // header three rows below them
+        final long validStartRow = tableRows + 3;
+        final long lineHeaderRow = validStartRow + summary.getValidCount() + 3;
+        return lineHeaderRow + 1 + REGRESSION_LINE_POINTS + 1;
+    }
+
+    // the header, then the table rows side by side with the valid points and the regression line
+    private static long streamingSheetRows(final DataSummary summary) {
+        final int lineRows = summary.getRegression() != null ? REGRESSION_LINE_POINTS + 1 : 0;
+        return 1L + Math.max(summary.getLastUsedRow() + 1, lineRows);
+    }
+
+    public void exportToExcel(final OutputStream outputStream,
                               final List<DataTableModel.DataPoint> dataPoints) throws IOException {
+        this.exportToExcel(outputStream, this.toColumns(dataPoints));
+    }
+
+    private void exportInMemory(final OutputStream outputStream,
+                                final PointColumns columns,
+                                final DataSummary summary,
+                                final ProgressListener listener) throws IOException {
         try (final XSSFWorkbook workbook = new XSSFWorkbook()) {
             final XSSFSheet dataSheet = workbook.createSheet("Dane");
-            final int dataEndRow = this.writeDataSheet(dataSheet, dataPoints, workbook);
-            final List<DataTableModel.DataPoint> validPoints = this.getValidDataPoints(dataPoints);
-            if (validPoints.size() >= 2) {
-                final LinearRegressionCalculator.RegressionResult regression =
-                    LinearRegressionCalculator.calculate(validPoints);
-                if (regression != null) {
-                    final Sheet regressionSheet = workbook.createSheet("Regresja");
-                    this.writeRegressionSheet(regressionSheet, regression, validPoints, workbook);
-                    final int validDataStartRow = this.writeValidDataPoints(dataSheet, validPoints, dataEndRow + 3, workbook);
-                    final int regressionDataStartRow = validDataStartRow + validPoints.size() + 3;
-                    final int regressionDataEndRow = this.writeRegressionLineData(
-                        dataSheet, regression, validPoints, regressionDataStartRow, workbook);
-
-                    this.createChart(dataSheet, validDataStartRow, validDataStartRow + validPoints.size() - 1,
-                        regressionDataStartRow + 1, regressionDataEndRow);
+            final int dataEndRow = this.writeDataSheet(dataSheet, columns, workbook, listener);
+            final LinearRegressionCalculator.RegressionResult regression = summary.getRegression();
+            if (regression != null) {
+                final int validCount = summary.getValidCount();
+                final Sheet regressionSheet = workbook.createSheet("Regresja");
+                this.writeRegressionSheet(regressionSheet, regression, workbook);
+                final int validDataStartRow = this.writeValidDataPoints(dataSheet, columns, dataEndRow + 3, workbook);
+                final int regressionDataStartRow = validDataStartRow + validCount + 3;
+                final int regressionDataEndRow = this.writeRegressionLineData(
+                    dataSheet, regression, summary, regressionDataStartRow, workbook);
+
+                this.createChart(dataSheet,
+                    new CellRangeAddress(validDataStartRow, validDataStartRow + validCount - 1, 3, 3),
+                    new CellRangeAddress(validDataStartRow, validDataStartRow + validCount - 1, 4, 4),
+                    new CellRangeAddress(regressionDataStartRow + 1, regressionDataEndRow, 3, 3),
+                    new CellRangeAddress(regressionDataStartRow + 1, regressionDataEndRow, 4, 4), 6);
+            }
+            if (summary.hasGroups()) {
+                this.writeGroupsSheet(workbook.createSheet("Grupy"), summary.getGroups(), workbook);
+            }
+
+            workbook.write(outputStream);
+        }
+    }
+
+    private void exportStreaming(final OutputStream outputStream, final PointColumns columns,
+                                 final DataSummary summary, final ProgressListener listener) throws IOException {
+        final LinearRegressionCalculator.RegressionResult regression = summary.getRegression();
+        final int size = columns.size();
+        final int lastUsedRow = summary.getLastUsedRow();
+        final int lastValidRow = summary.getLastValidRow();
+        final double minX = summary.getMinX();
+        final double maxX = summary.getMaxX();
+        final int validCount = summary.getValidCount();
+        // when the valid points are contiguous the chart can reference the data columns directly
+        final boolean compactCopy = regression != null && !summary.isContiguous();
+
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            final SXSSFSheet dataSheet = workbook.createSheet("Dane");
+            final CellStyle headerStyle = this.createHeaderStyle(workbook);
+            final int[] widths = new int[8];
+            final Row headerRow = dataSheet.createRow(0);
+            this.writeHeader(headerRow, 0, "X", headerStyle, widths);
+            this.writeHeader(headerRow, 1, "Y", headerStyle, widths);
+            final boolean grouped = columns.hasGroups();
+            if (grouped) {
+                this.writeHeader(headerRow, 2, "Grupa", headerStyle, widths);
+            }
+            if (compactCopy) {
+                this.writeHeader(headerRow, 3, "X (dane)", headerStyle, widths);
+                this.writeHeader(headerRow, 4, "Y (dane)", headerStyle, widths);
+            }
+            if (regression != null) {
+                this.writeHeader(headerRow, 6, "X (regresja)", headerStyle, widths);
+                this.writeHeader(headerRow, 7, "Y (regresja)", headerStyle, widths);
+            }
+
+            double rangeX = maxX - minX;
+            if (rangeX == 0) {
+                rangeX = Math.max(Math.abs(minX), 1.0);
+            }
+            final double startX = minX - rangeX * 0.1;
+            final double endX = maxX + rangeX * 0.1;
+            final int lineRows = regression != null ? REGRESSION_LINE_POINTS + 1 : 0;
+            final int rowCount = Math.max(lastUsedRow + 1, lineRows);
+            int validCursor = 0;
+            for (int index = 0; index < rowCount; index++) {
+                final Row row = dataSheet.createRow(index + 1);
+                if (index < size) {
+                    if (columns.hasX(index)) {
+                        this.writeNumber(row, 0, columns.getX(index), widths);
+                    }
+                    if (columns.hasY(index)) {
+                        this.writeNumber(row, 1, columns.getY(index), widths);
+                    }
+                    if (grouped && columns.hasGroup(index)) {
+                        this.writeNumber(row, 2, columns.getGroup(index), widths);
+                    }
+                }
+                if (compactCopy && index < validCount) {
+                    while (!columns.isValid(validCursor)) {
+                        validCursor++;
+                    }
+                    this.writeNumber(row, 3, columns.getX(validCursor), widths);
+                    this.writeNumber(row, 4, columns.getY(validCursor), widths);
+                    validCursor++;
+                }
+                if (index < lineRows) {
+                    final double x = startX + (endX - startX) * index / REGRESSION_LINE_POINTS;
+                    this.writeNumber(row, 6, x, widths);
+                    this.writeNumber(row, 7, regression.predict(x), widths);
+                }
+                if ((index + 1) % ProgressListener.REPORT_INTERVAL == 0) {
+                    listener.onProgress(index + 1, rowCount);
+                }
+            }
+            for (int column = 0; column < widths.length; column++) {
+                if (widths[column] > 0) {
+                    dataSheet.setColumnWidth(column, (widths[column] + 2) * 256);
                 }
             }
 
+            if (regression != null) {
+                final SXSSFSheet regressionSheet = workbook.createSheet("Regresja");
+                regressionSheet.trackAllColumnsForAutoSizing();
+                this.writeRegressionSheet(regressionSheet, regression, workbook);
+                final int dataColumn = compactCopy ? 3 : 0;
+                final int lastDataRow = compactCopy ? validCount : lastValidRow + 1;
+                // rows already flushed to the temporary file are not visible here, so the chart
+                // keeps only its cell references and Excel fills the series cache when opening the file
+                this.createChart(workbook.getXSSFWorkbook().getSheet("Dane"),
+                    new CellRangeAddress(1, lastDataRow, dataColumn, dataColumn),
+                    new CellRangeAddress(1, lastDataRow, dataColumn + 1, dataColumn + 1),
+                    new CellRangeAddress(1, lineRows, 6, 6),
+                    new CellRangeAddress(1, lineRows, 7, 7), 9);
+            }
+            if (summary.hasGroups()) {
+                final SXSSFSheet groupsSheet = workbook.createSheet("Grupy");
+                groupsSheet.trackAllColumnsForAutoSizing();
+                this.writeGroupsSheet(groupsSheet, summary.getGroups(), workbook);
+            }
+
             workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
+    private void writeHeader(final Row row, final int column, final String text,
+                             final CellStyle style, final int[] widths) {
+        final Cell cell = row.createCell(column);
+        cell.setCellValue(text);
+        cell.setCellStyle(style);
+        widths[column] = Math.max(widths[column], text.length());
+    }
+
+    private void writeNumber(final Row row, final int column, final double value, final int[] widths) {
+        row.createCell(column).setCellValue(value);
+        widths[column] = Math.max(widths[column], this.estimateWidth(value));
+    }
+
+    private int estimateWidth(final double value) {
+        final double magnitude = Math.abs(value);
+        final int sign = value < 0 ? 1 : 0;
+        if (magnitude < 1e11 && magnitude == Math.rint(magnitude)) {
+            final int digits = magnitude < 1 ? 1 : (int) Math.log10(magnitude) + 1;
+            return sign + digits;
+        }
+        // the General format rounds anything else to at most eleven characters
+        return sign + GENERAL_FORMAT_MAX_CHARS;
+    }
+
     private int writeDataSheet(final Sheet sheet,
-                               final List<DataTableModel.DataPoint> dataPoints,
-                               final Workbook workbook) {
+                               final PointColumns columns,
+                               final Workbook workbook,
+                               final ProgressListener listener) throws IOException {
         final CellStyle headerStyle = this.createHeaderStyle(workbook);
 
         final Row headerRow = sheet.createRow(0);
@@ -92,28 +304,44 @@ public class ExcelExporter {
         final Cell yHeader = headerRow.createCell(1);
         yHeader.setCellValue("Y");
         yHeader.setCellStyle(headerStyle);
+        final boolean grouped = columns.hasGroups();
+        if (grouped) {
+            final Cell groupHeader = headerRow.createCell(2);
+            groupHeader.setCellValue("Grupa");
+            groupHeader.setCellStyle(headerStyle);
+        }
 
+        final int size = columns.size();
         int rowNum = 1;
-        for (final DataTableModel.DataPoint point : dataPoints) {
+        for (int index = 0; index < size; index++) {
             final Row row = sheet.createRow(rowNum++);
-            if (point.getX() != null) {
-                row.createCell(0).setCellValue(point.getX());
+            if (columns.hasX(index)) {
+                row.createCell(0).setCellValue(columns.getX(index));
             } else {
                 row.createCell(0).setCellValue("");
             }
-            if (point.getY() != null) {
-                row.createCell(1).setCellValue(point.getY());
+            if (columns.hasY(index)) {
+                row.createCell(1).setCellValue(columns.getY(index));
             } else {
                 row.createCell(1).setCellValue("");
             }
+            if (grouped && columns.hasGroup(index)) {
+                row.createCell(2).setCellValue(columns.getGroup(index));
+            }
+            if ((rowNum - 1) % ProgressListener.REPORT_INTERVAL == 0) {
+                listener.onProgress(rowNum - 1, size);
+            }
         }
         sheet.autoSizeColumn(0);
         sheet.autoSizeColumn(1);
+        if (grouped) {
+            sheet.autoSizeColumn(2);
+        }
         return rowNum - 1;
     }
 
     private int writeValidDataPoints(final XSSFSheet sheet,
-                                     final List<DataTableModel.DataPoint> validPoints,
+                                     final PointColumns columns,
                                      final int startRow,
                                      final Workbook workbook) {
         final CellStyle headerStyle = this.createHeaderStyle(workbook);
@@ -125,10 +353,13 @@ public class ExcelExporter {
         yHeader.setCellValue("Y (dane)");
         yHeader.setCellStyle(headerStyle);
         int rowNum = startRow + 1;
-        for (final DataTableModel.DataPoint point : validPoints) {
-            final Row row = sheet.createRow(rowNum++);
-            row.createCell(3).setCellValue(point.getX());
-            row.createCell(4).setCellValue(point.getY());
+        final int size = columns.size();
+        for (int index = 0; index < size; index++) {
+            if (columns.isValid(index)) {
+                final Row row = sheet.createRow(rowNum++);
+                row.createCell(3).setCellValue(columns.getX(index));
+                row.createCell(4).setCellValue(columns.getY(index));
+            }
         }
         sheet.autoSizeColumn(3);
         sheet.autoSizeColumn(4);
@@ -137,7 +368,7 @@ public class ExcelExporter {
 
     private int writeRegressionLineData(final XSSFSheet sheet,
                                         final LinearRegressionCalculator.RegressionResult regression,
-                                        final List<DataTableModel.DataPoint> validPoints,
+                                        final DataSummary summary,
                                         final int startRow,
                                         final Workbook workbook) {
         final CellStyle headerStyle = this.createHeaderStyle(workbook);
@@ -148,13 +379,8 @@ public class ExcelExporter {
         final Cell yHeader = headerRow.createCell(4);
         yHeader.setCellValue("Y (regresja)");
         yHeader.setCellStyle(headerStyle);
-        double minX = Double.MAX_VALUE;
-        double maxX = Double.MIN_VALUE;
-        for (final DataTableModel.DataPoint point : validPoints) {
-            final double x = point.getX();
-            if (x < minX) minX = x;
-            if (x > maxX) maxX = x;
-        }
+        final double minX = summary.getMinX();
+        final double maxX = summary.getMaxX();
         double rangeX = maxX - minX;
         if (rangeX == 0) {
             rangeX = Math.max(Math.abs(minX), 1.0);
@@ -179,7 +405,6 @@ public class ExcelExporter {
 
     private void writeRegressionSheet(final Sheet sheet,
                                       final LinearRegressionCalculator.RegressionResult regression,
-                                      final List<DataTableModel.DataPoint> validPoints,
                                       final Workbook workbook) {
         final CellStyle headerStyle = this.createHeaderStyle(workbook);
         final CellStyle valueStyle = this.createValueStyle(workbook);
@@ -193,54 +418,83 @@ public class ExcelExporter {
         final Cell paramValue = paramRow.createCell(1);
         paramValue.setCellValue("Wartość");
         paramValue.setCellStyle(headerStyle);
+        final Cell errorHeader = paramRow.createCell(2);
+        errorHeader.setCellValue("Błąd standardowy");
+        errorHeader.setCellStyle(headerStyle);
 
         rowNum++;
         final Row interceptRow = sheet.createRow(rowNum++);
         interceptRow.createCell(0).setCellValue("Wyraz wolny (a)");
-        final Cell interceptCell = interceptRow.createCell(1);
-        interceptCell.setCellValue(regression.getIntercept());
-        interceptCell.setCellStyle(valueStyle);
+        this.writeValue(interceptRow, 1, regression.getIntercept(), valueStyle);
+        this.writeValue(interceptRow, 2, regression.getInterceptStandardError(), valueStyle);
 
         final Row slopeRow = sheet.createRow(rowNum++);
         slopeRow.createCell(0).setCellValue("Współczynnik kierunkowy (b)");
-        final Cell slopeCell = slopeRow.createCell(1);
-        slopeCell.setCellValue(regression.getSlope());
-        slopeCell.setCellStyle(valueStyle);
+        this.writeValue(slopeRow, 1, regression.getSlope(), valueStyle);
+        this.writeValue(slopeRow, 2, regression.getSlopeStandardError(), valueStyle);
 
-        final double rSquared = this.calculateRSquared(regression, validPoints);
         final Row rSquaredRow = sheet.createRow(rowNum++);
         rSquaredRow.createCell(0).setCellValue("R²");
-        final Cell rSquaredCell = rSquaredRow.createCell(1);
-        rSquaredCell.setCellValue(rSquared);
-        rSquaredCell.setCellStyle(valueStyle);
+        this.writeValue(rSquaredRow, 1, regression.getRSquared(), valueStyle);
+
+        final Row residualRow = sheet.createRow(rowNum++);
+        residualRow.createCell(0).setCellValue("Suma kwadratów reszt");
+        this.writeValue(residualRow, 1, regression.getResidualSumOfSquares(), valueStyle);
+
+        final Row standardErrorRow = sheet.createRow(rowNum++);
+        standardErrorRow.createCell(0).setCellValue("Błąd standardowy reszt");
+        this.writeValue(standardErrorRow, 1, regression.getStandardError(), valueStyle);
+
+        final Row countRow = sheet.createRow(rowNum++);
+        countRow.createCell(0).setCellValue("Liczba punktów (n)");
+        countRow.createCell(1).setCellValue(regression.getCount());
+
+        final Row criticalRow = sheet.createRow(rowNum);
+        criticalRow.createCell(0).setCellValue(
+            String.format("Wartość krytyczna t (%.0f%%)", LinearRegressionCalculator.RegressionResult.BAND_LEVEL * 100));
+        this.writeValue(criticalRow, 1, regression.getCriticalValue(), valueStyle);
 
         sheet.autoSizeColumn(0);
         sheet.autoSizeColumn(1);
+        sheet.autoSizeColumn(2);
     }
 
-    private double calculateRSquared(final LinearRegressionCalculator.RegressionResult regression,
-                                     final List<DataTableModel.DataPoint> validPoints) {
-        if (validPoints.isEmpty()) {
-            return 0.0;
+    private void writeGroupsSheet(final Sheet sheet, final GroupStatistics groups, final Workbook workbook) {
+        final CellStyle headerStyle = this.createHeaderStyle(workbook);
+        final CellStyle valueStyle = this.createValueStyle(workbook);
+        final String[] headers = {"Grupa", "Liczba punktów (n)", "Wyraz wolny (a)", "Współczynnik kierunkowy (b)", "R²"};
+        final Row headerRow = sheet.createRow(0);
+        for (int column = 0; column < headers.length; column++) {
+            final Cell cell = headerRow.createCell(column);
+            cell.setCellValue(headers[column]);
+            cell.setCellStyle(headerStyle);
         }
-        double meanY = 0.0;
-        for (final DataTableModel.DataPoint point : validPoints) {
-            meanY += point.getY();
+        // largest groups first, matching the order of the chart legend
+        int rowNum = 1;
+        for (final int group : groups.largestGroups(groups.size())) {
+            final Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(groups.getKey(group));
+            row.createCell(1).setCellValue(groups.getCount(group));
+            final LinearRegressionCalculator.RegressionResult regression = groups.toResult(group);
+            if (regression != null) {
+                this.writeValue(row, 2, regression.getIntercept(), valueStyle);
+                this.writeValue(row, 3, regression.getSlope(), valueStyle);
+                this.writeValue(row, 4, regression.getRSquared(), valueStyle);
+            }
         }
-        meanY /= validPoints.size();
-        double ssTotal = 0.0;
-        double ssResidual = 0.0;
-
-        for (final DataTableModel.DataPoint point : validPoints) {
-            final double y = point.getY();
-            final double yPredicted = regression.predict(point.getX());
-            ssTotal += Math.pow(y - meanY, 2);
-            ssResidual += Math.pow(y - yPredicted, 2);
+        for (int column = 0; column < headers.length; column++) {
+            sheet.autoSizeColumn(column);
         }
-        if (ssTotal == 0.0) {
-            return 0.0;
+    }
+
+    private void writeValue(final Row row, final int column, final double value, final CellStyle style) {
+        // Excel has no NaN, so statistics undefined for two points are left empty
+        if (!Double.isFinite(value)) {
+            return;
         }
-        return 1.0 - (ssResidual / ssTotal);
+        final Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
     }
 
     private CellStyle createHeaderStyle(final Workbook workbook) {
@@ -258,12 +512,13 @@ public class ExcelExporter {
     }
 
     private void createChart(final XSSFSheet sheet,
-                             final int dataStartRow,
-                             final int dataEndRow,
-                             final int regressionStartRow,
-                             final int regressionEndRow) {
+                             final CellRangeAddress dataXRange,
+                             final CellRangeAddress dataYRange,
+                             final CellRangeAddress regressionXRange,
+                             final CellRangeAddress regressionYRange,
+                             final int anchorColumn) {
         final XSSFDrawing drawing = sheet.createDrawingPatriarch();
-        final XSSFClientAnchor anchor = drawing.createAnchor(0, 0, 0, 0, 6, 0, 20, 25);
+        final XSSFClientAnchor anchor = drawing.createAnchor(0, 0, 0, 0, anchorColumn, 0, anchorColumn + 14, 25);
 
         final XSSFChart chart = drawing.createChart(anchor);
         chart.setTitleText("Regresja liniowa");
@@ -280,10 +535,8 @@ public class ExcelExporter {
         leftAxis.setTitle("Y");
         leftAxis.setCrosses(AxisCrosses.AUTO_ZERO);
 
-        final XDDFDataSource<Double> dataX = XDDFDataSourcesFactory.fromNumericCellRange(
-            sheet, new CellRangeAddress(dataStartRow, dataEndRow, 3, 3));
-        final XDDFNumericalDataSource<Double> dataY = XDDFDataSourcesFactory.fromNumericCellRange(
-            sheet, new CellRangeAddress(dataStartRow, dataEndRow, 4, 4));
+        final XDDFDataSource<Double> dataX = XDDFDataSourcesFactory.fromNumericCellRange(sheet, dataXRange);
+        final XDDFNumericalDataSource<Double> dataY = XDDFDataSourcesFactory.fromNumericCellRange(sheet, dataYRange);
 
         final XDDFScatterChartData scatterData = (XDDFScatterChartData) chart.createData(
             ChartTypes.SCATTER, bottomAxis, leftAxis);
@@ -292,10 +545,10 @@ public class ExcelExporter {
         dataSeries.setTitle("Dane", null);
         dataSeries.setMarkerStyle(MarkerStyle.CIRCLE);
 
-        final XDDFDataSource<Double> regressionX = XDDFDataSourcesFactory.fromNumericCellRange(
-            sheet, new CellRangeAddress(regressionStartRow, regressionEndRow, 3, 3));
-        final XDDFNumericalDataSource<Double> regressionY = XDDFDataSourcesFactory.fromNumericCellRange(
-            sheet, new CellRangeAddress(regressionStartRow, regressionEndRow, 4, 4));
+        final XDDFDataSource<Double> regressionX =
+            XDDFDataSourcesFactory.fromNumericCellRange(sheet, regressionXRange);
+        final XDDFNumericalDataSource<Double> regressionY =
+            XDDFDataSourcesFactory.fromNumericCellRange(sheet, regressionYRange);
 
         final XDDFScatterChartData.Series regressionSeries = (XDDFScatterChartData.Series) scatterData.addSeries(regressionX, regressionY);
         regressionSeries.setTitle("Regresja", null);
@@ -304,10 +557,18 @@ public class ExcelExporter {
         chart.plot(scatterData);
     }
 
-    private List<DataTableModel.DataPoint> getValidDataPoints(final List<DataTableModel.DataPoint> dataPoints) {
-        return dataPoints.stream()
-            .filter(point -> point.getX() != null && point.getY() != null)
-            .map(point -> new DataTableModel.DataPoint(point.getX(), point.getY()))
-            .collect(java.util.stream.Collectors.toList());
+    private DataColumns toColumns(final List<DataTableModel.DataPoint> dataPoints) {
+        final DataColumns columns = new DataColumns(dataPoints.size());
+        columns.setSize(dataPoints.size());
+        for (int row = 0; row < dataPoints.size(); row++) {
+            final DataTableModel.DataPoint point = dataPoints.get(row);
+            if (point.getX() != null) {
+                columns.setX(row, point.getX());
+            }
+            if (point.getY() != null) {
+                columns.setY(row, point.getY());
+            }
+        }
+        return columns;
     }
 }
@@ -28,9 +28,14 @@ import java.io.IOException;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import ovh.neziw.visualizer.DataTableModel;
+import ovh.neziw.visualizer.ProgressListener;
 import ovh.neziw.visualizer.gui.ChartSettings;
 import ovh.neziw.visualizer.gui.FileDialogManager;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
+import ovh.neziw.visualizer.serialization.BinaryDataSerializer;
 import ovh.neziw.visualizer.serialization.ChartSettingsConverter;
+import ovh.neziw.visualizer.serialization.DatasetReader;
 import ovh.neziw.visualizer.serialization.JsonDataSerializer;
 import ovh.neziw.visualizer.serialization.SavedData;
 
@@ -38,6 +43,8 @@ public class TableFileManager {
 
     private final DataTableModel tableModel;
     private final JsonDataSerializer serializer;
+    private final BinaryDataSerializer binarySerializer;
+    private final DatasetReader reader;
     private final FileDialogManager dialogManager;
     private final Runnable onDataLoaded;
     private final ChartSettings chartSettings;
@@ -48,6 +55,8 @@ public class TableFileManager {
                             final ChartSettings chartSettings) {
         this.tableModel = tableModel;
         this.serializer = new JsonDataSerializer();
+        this.binarySerializer = new BinaryDataSerializer();
+        this.reader = new DatasetReader();
         this.dialogManager = dialogManager;
         this.onDataLoaded = onDataLoaded;
         this.chartSettings = chartSettings;
@@ -58,18 +67,33 @@ public class TableFileManager {
         if (file == null) {
             return;
         }
-        try {
-            final SavedData savedData = new SavedData(
-                this.tableModel.getAllDataPoints(),
-                ChartSettingsConverter.toData(this.chartSettings)
-            );
-            this.serializer.writeToFile(file, savedData);
-            this.showSuccessMessage(parentFrame,
-                "Dane zostały zapisane do pliku: " + file.getName());
-        } catch (final IOException exception) {
-            this.showErrorMessage(parentFrame,
-                "Błąd podczas zapisywania pliku:\n" + exception.getMessage());
-        }
+        final SavedData savedData = new SavedData(
+            this.tableModel.getColumns(),
+            ChartSettingsConverter.toData(this.chartSettings)
+        );
+        new BackgroundOperation<Void>(parentFrame, "Zapisywanie danych") {
+            @Override
+            protected Void perform(final ProgressListener listener) throws IOException {
+                if (file.getName().toLowerCase().endsWith("." + BinaryDataSerializer.FILE_EXTENSION)) {
+                    TableFileManager.this.binarySerializer.writeToFile(file, savedData, listener);
+                } else {
+                    TableFileManager.this.serializer.writeToFile(file, savedData, listener);
+                }
+                return null;
+            }
+
+            @Override
+            protected void succeeded(final Void result) {
+                TableFileManager.this.showSuccessMessage(parentFrame,
+                    "Dane zostały zapisane do pliku: " + file.getName());
+            }
+
+            @Override
+            protected void failed(final Exception exception) {
+                TableFileManager.this.showErrorMessage(parentFrame,
+                    "Błąd podczas zapisywania pliku:\n" + exception.getMessage());
+            }
+        }.start();
     }
 
     public void loadFromFile(final JFrame parentFrame) {
@@ -77,25 +101,54 @@ public class TableFileManager {
         if (file == null) {
             return;
         }
-        try {
-            final SavedData savedData = this.serializer.readFromFile(file);
-            this.tableModel.setAllDataPoints(savedData.getDataPoints());
+        final RegressionEngine engine = this.tableModel.getRegressionEngine();
+        new BackgroundOperation<LoadedData>(parentFrame, "Wczytywanie danych") {
+            @Override
+            protected LoadedData perform(final ProgressListener listener) throws IOException {
+                final SavedData savedData = TableFileManager.this.reader.read(file, listener);
+                if (savedData.getStatistics() == null) {
+                    return new LoadedData(savedData, engine, engine.accumulate(savedData.getColumns()));
+                }
+                final RegressionStatistics statistics = engine.createStatistics();
+                statistics.merge(savedData.getStatistics());
+                return new LoadedData(savedData, engine, statistics);
+            }
+
+            @Override
+            protected void succeeded(final LoadedData result) {
+                TableFileManager.this.applyLoadedData(parentFrame, file, result);
+            }
 
-            if (savedData.getChartSettings() != null) {
-                ChartSettingsConverter.applyToSettings(savedData.getChartSettings(), this.chartSettings);
+            @Override
+            protected void failed(final Exception exception) {
+                if (exception instanceof IOException) {
+                    TableFileManager.this.showErrorMessage(parentFrame,
+                        "Błąd podczas wczytywania pliku:\n" + exception.getMessage());
+                } else {
+                    TableFileManager.this.showErrorMessage(parentFrame,
+                        "Błąd podczas parsowania pliku JSON:\n" + exception.getMessage() +
+                            "\nUpewnij się, że plik ma poprawny format.");
+                }
             }
+        }.start();
+    }
+
+    private void applyLoadedData(final JFrame parentFrame, final File file, final LoadedData loadedData) {
+        final SavedData savedData = loadedData.savedData;
+        if (this.tableModel.getRegressionEngine() == loadedData.engine) {
+            this.tableModel.setColumns(savedData.getColumns(), loadedData.statistics);
+        } else {
+            this.tableModel.setColumns(savedData.getColumns());
+        }
 
-            this.onDataLoaded.run();
-            this.showSuccessMessage(parentFrame,
-                "Dane zostały wczytane z pliku: " + file.getName());
-        } catch (final IOException exception) {
-            this.showErrorMessage(parentFrame,
-                "Błąd podczas wczytywania pliku:\n" + exception.getMessage());
-        } catch (final Exception exception) {
-            this.showErrorMessage(parentFrame,
-                "Błąd podczas parsowania pliku JSON:\n" + exception.getMessage() +
-                    "\nUpewnij się, że plik ma poprawny format.");
+        if (savedData.getChartSettings() != null) {
+            ChartSettingsConverter.applyToSettings(savedData.getChartSettings(), this.chartSettings);
         }
+
+        this.onDataLoaded.run();
+        this.showSuccessMessage(parentFrame, this.tableModel.isReadOnly()
+            ? "Dane zostały wczytane z pliku (tylko do odczytu): " + file.getName()
+            : "Dane zostały wczytane z pliku: " + file.getName());
     }
 
     private void showSuccessMessage(final JFrame parentFrame, final String message) {
@@ -107,4 +160,18 @@ public class TableFileManager {
         JOptionPane.showMessageDialog(parentFrame, message, "Błąd",
             JOptionPane.ERROR_MESSAGE);
     }
+
+    private static final class LoadedData {
+
+        private final SavedData savedData;
+        private final RegressionEngine engine;
+        private final RegressionStatistics statistics;
+
+        private LoadedData(final SavedData savedData, final RegressionEngine engine,
+                           final RegressionStatistics statistics) {
+            this.savedData = savedData;
+            this.engine = engine;
+            this.statistics = statistics;
+        }
+    }
 }
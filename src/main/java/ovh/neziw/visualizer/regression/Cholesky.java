@@ -0,0 +1,106 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.Arrays;
+
+final class Cholesky {
+
+    // a pivot that keeps less than this share of its column's own variance means the column is,
+    // up to rounding, a linear combination of the columns before it
+    private static final double SINGULAR_TOLERANCE = 1e-10;
+
+    private Cholesky() {
+    }
+
+    // factors the symmetric matrix (only its upper triangle is read) into R'R in place, with R upper
+    // triangular; returns false when one of the first checkedColumns columns is linearly dependent,
+    // the remaining columns may be singular and get a zero pivot instead
+    static boolean factor(final double[][] matrix, final int checkedColumns) {
+        final int size = matrix.length;
+        for (int column = 0; column < size; column++) {
+            final double[] pivotRow = matrix[column];
+            double diagonal = pivotRow[column];
+            for (int k = 0; k < column; k++) {
+                diagonal -= matrix[k][column] * matrix[k][column];
+            }
+            if (diagonal <= SINGULAR_TOLERANCE * pivotRow[column] || pivotRow[column] <= 0.0) {
+                if (column < checkedColumns) {
+                    return false;
+                }
+                for (int next = column; next < size; next++) {
+                    pivotRow[next] = 0.0;
+                }
+                continue;
+            }
+            final double pivot = Math.sqrt(diagonal);
+            pivotRow[column] = pivot;
+            for (int next = column + 1; next < size; next++) {
+                double value = pivotRow[next];
+                for (int k = 0; k < column; k++) {
+                    value -= matrix[k][column] * matrix[k][next];
+                }
+                pivotRow[next] = value / pivot;
+            }
+        }
+        return true;
+    }
+
+    // solves R x = b for the leading size x size block of R, overwriting b
+    static void solveUpper(final double[][] factor, final int size, final double[] values) {
+        for (int row = size - 1; row >= 0; row--) {
+            double value = values[row];
+            for (int column = row + 1; column < size; column++) {
+                value -= factor[row][column] * values[column];
+            }
+            values[row] = value / factor[row][row];
+        }
+    }
+
+    // solves R' x = b for the leading size x size block of R, overwriting b
+    static void solveLower(final double[][] factor, final int size, final double[] values) {
+        for (int row = 0; row < size; row++) {
+            double value = values[row];
+            for (int k = 0; k < row; k++) {
+                value -= factor[k][row] * values[k];
+            }
+            values[row] = value / factor[row][row];
+        }
+    }
+
+    // diagonal of (R'R)^-1 for the leading size x size block, the squared row norms of R^-1
+    static double[] inverseDiagonal(final double[][] factor, final int size) {
+        final double[] diagonal = new double[size];
+        final double[] unit = new double[size];
+        for (int column = 0; column < size; column++) {
+            Arrays.fill(unit, 0.0);
+            unit[column] = 1.0;
+            solveUpper(factor, size, unit);
+            for (int row = 0; row <= column; row++) {
+                diagonal[row] += unit[row] * unit[row];
+            }
+        }
+        return diagonal;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.ChunkedTask;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+
+public final class CrossProductStatistics {
+
+    private static final int BLOCK_ROWS = 256;
+
+    // the predictors come first and the response is the last variable; the co-moments are the
+    // centered X'X, X'y and y'y sums, kept in a packed upper triangle
+    private final int variables;
+    private final double[] means;
+    private final double[] comoments;
+    private long count;
+    private double[][] block;
+
+    public CrossProductStatistics(final int predictorCount) {
+        this.variables = predictorCount + 1;
+        this.means = new double[this.variables];
+        this.comoments = new double[this.variables * (this.variables + 1) / 2];
+    }
+
+    public static CrossProductStatistics accumulate(final PredictorColumns columns) {
+        return accumulate(columns, RegressionEngine.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public static CrossProductStatistics accumulate(final PredictorColumns columns, final int parallelThreshold) {
+        return ChunkedTask.invoke(columns.size(), parallelThreshold, (from, to) -> {
+            final CrossProductStatistics statistics = new CrossProductStatistics(columns.predictorCount());
+            statistics.addRange(columns, from, to);
+            return statistics;
+        }, (left, right) -> {
+            left.merge(right);
+            return left;
+        });
+    }
+
+    private int index(final int row, final int column) {
+        return row * this.variables - row * (row - 1) / 2 + column - row;
+    }
+
+    public void add(final double response, final double... predictors) {
+        if (predictors.length != this.variables - 1) {
+            throw new IllegalArgumentException("Expected " + (this.variables - 1) + " predictors, got "
+                + predictors.length);
+        }
+        final double[] deltas = new double[this.variables];
+        for (int variable = 0; variable < this.variables; variable++) {
+            deltas[variable] = this.value(response, predictors, variable) - this.means[variable];
+        }
+        this.count++;
+        for (int variable = 0; variable < this.variables; variable++) {
+            this.means[variable] += deltas[variable] / this.count;
+        }
+        int index = 0;
+        for (int row = 0; row < this.variables; row++) {
+            for (int column = row; column < this.variables; column++) {
+                final double value = this.value(response, predictors, column);
+                this.comoments[index++] += deltas[row] * (value - this.means[column]);
+            }
+        }
+    }
+
+    private double value(final double response, final double[] predictors, final int variable) {
+        return variable < predictors.length ? predictors[variable] : response;
+    }
+
+    public void addRange(final PredictorColumns columns, final int from, final int to) {
+        if (columns.predictorCount() != this.variables - 1) {
+            throw new IllegalArgumentException("Expected " + (this.variables - 1) + " predictors, got "
+                + columns.predictorCount());
+        }
+        if (this.block == null) {
+            this.block = new double[this.variables][BLOCK_ROWS];
+        }
+        final int response = this.variables - 1;
+        int rows = 0;
+        for (int row = from; row < to; row++) {
+            if (!columns.isValid(row)) {
+                continue;
+            }
+            for (int predictor = 0; predictor < response; predictor++) {
+                this.block[predictor][rows] = columns.getPredictor(row, predictor);
+            }
+            this.block[response][rows] = columns.getResponse(row);
+            if (++rows == BLOCK_ROWS) {
+                this.addBlock(rows);
+                rows = 0;
+            }
+        }
+        if (rows > 0) {
+            this.addBlock(rows);
+        }
+    }
+
+    // a block small enough to stay in cache is centered on its own means and its products are
+    // summed column by column, then it is merged like a partial result from another thread
+    private void addBlock(final int rows) {
+        final double[] blockMeans = new double[this.variables];
+        for (int variable = 0; variable < this.variables; variable++) {
+            final double[] values = this.block[variable];
+            double sum = 0.0;
+            for (int row = 0; row < rows; row++) {
+                sum += values[row];
+            }
+            final double mean = sum / rows;
+            for (int row = 0; row < rows; row++) {
+                values[row] -= mean;
+            }
+            blockMeans[variable] = mean;
+        }
+        final double[] blockComoments = new double[this.comoments.length];
+        int index = 0;
+        for (int first = 0; first < this.variables; first++) {
+            final double[] left = this.block[first];
+            for (int second = first; second < this.variables; second++) {
+                final double[] right = this.block[second];
+                double sum = 0.0;
+                for (int row = 0; row < rows; row++) {
+                    sum += left[row] * right[row];
+                }
+                blockComoments[index++] = sum;
+            }
+        }
+        this.merge(rows, blockMeans, blockComoments);
+    }
+
+    public void merge(final CrossProductStatistics other) {
+        if (other.variables != this.variables) {
+            throw new IllegalArgumentException("Expected " + (this.variables - 1) + " predictors, got "
+                + (other.variables - 1));
+        }
+        this.merge(other.count, other.means, other.comoments);
+    }
+
+    private void merge(final long otherCount, final double[] otherMeans, final double[] otherComoments) {
+        if (otherCount == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            this.count = otherCount;
+            System.arraycopy(otherMeans, 0, this.means, 0, this.variables);
+            System.arraycopy(otherComoments, 0, this.comoments, 0, this.comoments.length);
+            return;
+        }
+        final long total = this.count + otherCount;
+        final double weight = (double) this.count * otherCount / total;
+        final double[] deltas = new double[this.variables];
+        for (int variable = 0; variable < this.variables; variable++) {
+            deltas[variable] = otherMeans[variable] - this.means[variable];
+        }
+        int index = 0;
+        for (int row = 0; row < this.variables; row++) {
+            for (int column = row; column < this.variables; column++) {
+                this.comoments[index] += otherComoments[index] + deltas[row] * deltas[column] * weight;
+                index++;
+            }
+        }
+        for (int variable = 0; variable < this.variables; variable++) {
+            this.means[variable] += deltas[variable] * otherCount / total;
+        }
+        this.count = total;
+    }
+
+    public int getPredictorCount() {
+        return this.variables - 1;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMean(final int variable) {
+        return this.means[variable];
+    }
+
+    public double getComoment(final int first, final int second) {
+        return first <= second ? this.comoments[this.index(first, second)] : this.comoments[this.index(second, first)];
+    }
+
+    public LinearRegressionCalculator.MultipleRegressionResult toResult() {
+        final int predictors = this.variables - 1;
+        if (this.count < this.variables) {
+            return null;
+        }
+        // the Cholesky factor of the centered [X y]'[X y] is the R of a QR decomposition of the
+        // centered data: its predictor block gives the coefficients by back substitution and its
+        // last pivot squared is the residual sum of squares
+        final double[][] factor = new double[this.variables][this.variables];
+        int index = 0;
+        for (int row = 0; row < this.variables; row++) {
+            for (int column = row; column < this.variables; column++) {
+                factor[row][column] = this.comoments[index++];
+            }
+        }
+        if (!Cholesky.factor(factor, predictors)) {
+            return null;
+        }
+        final double[] coefficients = new double[predictors];
+        for (int predictor = 0; predictor < predictors; predictor++) {
+            coefficients[predictor] = factor[predictor][predictors];
+        }
+        Cholesky.solveUpper(factor, predictors, coefficients);
+        double intercept = this.means[predictors];
+        for (int predictor = 0; predictor < predictors; predictor++) {
+            intercept -= coefficients[predictor] * this.means[predictor];
+        }
+        final double residualSumOfSquares = factor[predictors][predictors] * factor[predictors][predictors];
+        final double[] inverseDiagonal = Cholesky.inverseDiagonal(factor, predictors);
+        final double[] scaledMeans = new double[predictors];
+        System.arraycopy(this.means, 0, scaledMeans, 0, predictors);
+        Cholesky.solveLower(factor, predictors, scaledMeans);
+        double interceptVariance = 1.0 / this.count;
+        for (final double value : scaledMeans) {
+            interceptVariance += value * value;
+        }
+        return new LinearRegressionCalculator.MultipleRegressionResult(coefficients, intercept, this.count,
+            this.getComoment(predictors, predictors), residualSumOfSquares, inverseDiagonal, interceptVariance);
+    }
+}
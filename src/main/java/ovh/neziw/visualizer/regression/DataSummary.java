@@ -0,0 +1,176 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.PointColumns;
+
+public final class DataSummary {
+
+    private final RegressionStatistics statistics;
+    private final ModelStatistics models;
+    private double minX = Double.POSITIVE_INFINITY;
+    private double maxX = Double.NEGATIVE_INFINITY;
+    private double minY = Double.POSITIVE_INFINITY;
+    private double maxY = Double.NEGATIVE_INFINITY;
+    private int lastUsedRow = -1;
+    private int lastValidRow = -1;
+    private LinearRegressionCalculator.RegressionResult regression;
+    private GroupStatistics groups;
+
+    // the curve model sums take a few logarithms per point, so only the chart asks for them
+    DataSummary(final RegressionStatistics statistics, final boolean models) {
+        this.statistics = statistics;
+        this.models = models ? new ModelStatistics() : null;
+    }
+
+    public static DataSummary scanRanges(final PointColumns columns, final RegressionStatistics statistics) {
+        // the statistics are already known, the log transforms of the model sums make the rest of
+        // the scan worth splitting across cores on large tables
+        final DataSummary summary = new DataSummary(statistics, true);
+        summary.merge(LinearRegressionCalculator.DEFAULT_ENGINE.summarize(columns,
+            RegressionEngine.DEFAULT_PARALLEL_THRESHOLD, false, true));
+        return summary;
+    }
+
+    void addRange(final PointColumns columns, final int from, final int to, final boolean accumulate) {
+        if (accumulate) {
+            // the statistics take the range in one kernel call instead of a point at a time
+            this.statistics.addRange(columns, from, to);
+        }
+        final boolean grouped = columns.hasGroups();
+        for (int row = from; row < to; row++) {
+            final boolean hasX = columns.hasX(row);
+            final boolean hasY = columns.hasY(row);
+            if (!hasX && !hasY) {
+                continue;
+            }
+            this.lastUsedRow = row;
+            if (!hasX || !hasY) {
+                continue;
+            }
+            final double x = columns.getX(row);
+            final double y = columns.getY(row);
+            this.lastValidRow = row;
+            this.minX = Math.min(this.minX, x);
+            this.maxX = Math.max(this.maxX, x);
+            this.minY = Math.min(this.minY, y);
+            this.maxY = Math.max(this.maxY, y);
+            if (this.models != null) {
+                this.models.add(x, y);
+            }
+            if (grouped && columns.hasGroup(row)) {
+                if (this.groups == null) {
+                    this.groups = new GroupStatistics();
+                }
+                this.groups.add(columns.getGroup(row), x, y);
+            }
+        }
+    }
+
+    void merge(final DataSummary other) {
+        this.statistics.merge(other.statistics);
+        if (this.models != null && other.models != null) {
+            this.models.merge(other.models);
+        }
+        if (other.groups != null) {
+            if (this.groups == null) {
+                this.groups = other.groups;
+            } else {
+                this.groups.merge(other.groups);
+            }
+        }
+        this.minX = Math.min(this.minX, other.minX);
+        this.maxX = Math.max(this.maxX, other.maxX);
+        this.minY = Math.min(this.minY, other.minY);
+        this.maxY = Math.max(this.maxY, other.maxY);
+        this.lastUsedRow = Math.max(this.lastUsedRow, other.lastUsedRow);
+        this.lastValidRow = Math.max(this.lastValidRow, other.lastValidRow);
+    }
+
+    public RegressionStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public LinearRegressionCalculator.RegressionResult getRegression() {
+        if (this.regression == null) {
+            this.regression = this.statistics.toResult();
+        }
+        return this.regression;
+    }
+
+    public double getRSquared() {
+        final LinearRegressionCalculator.RegressionResult result = this.getRegression();
+        return result == null ? 0.0 : result.getRSquared();
+    }
+
+    // null unless the summary came from scanRanges
+    public ModelStatistics getModels() {
+        return this.models;
+    }
+
+    public GroupStatistics getGroups() {
+        return this.groups;
+    }
+
+    public boolean hasGroups() {
+        return this.groups != null;
+    }
+
+    public int getValidCount() {
+        return (int) this.statistics.getCount();
+    }
+
+    public boolean isEmpty() {
+        return this.lastValidRow < 0;
+    }
+
+    public boolean isContiguous() {
+        return this.getValidCount() == this.lastValidRow + 1;
+    }
+
+    public double getMinX() {
+        return this.minX;
+    }
+
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    public double getMinY() {
+        return this.minY;
+    }
+
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    public int getLastUsedRow() {
+        return this.lastUsedRow;
+    }
+
+    public int getLastValidRow() {
+        return this.lastValidRow;
+    }
+}
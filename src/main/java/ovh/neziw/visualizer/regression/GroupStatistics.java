@@ -0,0 +1,206 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.Arrays;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+
+public final class GroupStatistics {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // open addressing over entry indexes (0 marks a free slot); the per-group sums live in
+    // parallel arrays in insertion order, so a scan touches no boxed keys or per-group objects
+    private int[] table;
+    private long[] keys;
+    private long[] counts;
+    private double[] meanX;
+    private double[] meanY;
+    private double[] sxx;
+    private double[] syy;
+    private double[] sxy;
+    private double[] minX;
+    private double[] maxX;
+    private int size;
+
+    public GroupStatistics() {
+        this.table = new int[INITIAL_CAPACITY * 2];
+        this.keys = new long[INITIAL_CAPACITY];
+        this.counts = new long[INITIAL_CAPACITY];
+        this.meanX = new double[INITIAL_CAPACITY];
+        this.meanY = new double[INITIAL_CAPACITY];
+        this.sxx = new double[INITIAL_CAPACITY];
+        this.syy = new double[INITIAL_CAPACITY];
+        this.sxy = new double[INITIAL_CAPACITY];
+        this.minX = new double[INITIAL_CAPACITY];
+        this.maxX = new double[INITIAL_CAPACITY];
+    }
+
+    private static int hash(final long key) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    public void add(final long key, final double x, final double y) {
+        final int index = this.entry(key);
+        final long count = ++this.counts[index];
+        final double dx = x - this.meanX[index];
+        final double dy = y - this.meanY[index];
+        this.meanX[index] += dx / count;
+        this.meanY[index] += dy / count;
+        this.sxx[index] += dx * (x - this.meanX[index]);
+        this.syy[index] += dy * (y - this.meanY[index]);
+        this.sxy[index] += dx * (y - this.meanY[index]);
+        if (x < this.minX[index]) {
+            this.minX[index] = x;
+        }
+        if (x > this.maxX[index]) {
+            this.maxX[index] = x;
+        }
+    }
+
+    public void merge(final GroupStatistics other) {
+        for (int otherIndex = 0; otherIndex < other.size; otherIndex++) {
+            final int index = this.entry(other.keys[otherIndex]);
+            final long count = this.counts[index];
+            final long otherCount = other.counts[otherIndex];
+            final long total = count + otherCount;
+            final double dx = other.meanX[otherIndex] - this.meanX[index];
+            final double dy = other.meanY[otherIndex] - this.meanY[index];
+            final double weight = (double) count * otherCount / total;
+            this.meanX[index] += dx * otherCount / total;
+            this.meanY[index] += dy * otherCount / total;
+            this.sxx[index] += other.sxx[otherIndex] + dx * dx * weight;
+            this.syy[index] += other.syy[otherIndex] + dy * dy * weight;
+            this.sxy[index] += other.sxy[otherIndex] + dx * dy * weight;
+            this.counts[index] = total;
+            this.minX[index] = Math.min(this.minX[index], other.minX[otherIndex]);
+            this.maxX[index] = Math.max(this.maxX[index], other.maxX[otherIndex]);
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int indexOf(final long key) {
+        final int mask = this.table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            final int entry = this.table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (this.keys[entry - 1] == key) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public long getKey(final int index) {
+        return this.keys[index];
+    }
+
+    public long getCount(final int index) {
+        return this.counts[index];
+    }
+
+    public double getMinX(final int index) {
+        return this.minX[index];
+    }
+
+    public double getMaxX(final int index) {
+        return this.maxX[index];
+    }
+
+    public LinearRegressionCalculator.RegressionResult toResult(final int index) {
+        return RegressionStatistics.toResult(this.counts[index], this.meanX[index], this.meanY[index],
+            this.sxx[index], this.syy[index], this.sxy[index]);
+    }
+
+    // indexes of the largest groups first, ties in insertion order
+    public int[] largestGroups(final int limit) {
+        final Integer[] order = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Long.compare(this.counts[right], this.counts[left]));
+        final int[] largest = new int[Math.min(limit, this.size)];
+        for (int i = 0; i < largest.length; i++) {
+            largest[i] = order[i];
+        }
+        return largest;
+    }
+
+    private int entry(final long key) {
+        int mask = this.table.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            final int entry = this.table[slot];
+            if (entry == 0) {
+                break;
+            }
+            if (this.keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (this.size == this.keys.length) {
+            this.grow();
+            mask = this.table.length - 1;
+            slot = hash(key) & mask;
+            while (this.table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        final int index = this.size++;
+        this.table[slot] = index + 1;
+        this.keys[index] = key;
+        this.minX[index] = Double.POSITIVE_INFINITY;
+        this.maxX[index] = Double.NEGATIVE_INFINITY;
+        return index;
+    }
+
+    private void grow() {
+        final int capacity = this.keys.length * 2;
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.counts = Arrays.copyOf(this.counts, capacity);
+        this.meanX = Arrays.copyOf(this.meanX, capacity);
+        this.meanY = Arrays.copyOf(this.meanY, capacity);
+        this.sxx = Arrays.copyOf(this.sxx, capacity);
+        this.syy = Arrays.copyOf(this.syy, capacity);
+        this.sxy = Arrays.copyOf(this.sxy, capacity);
+        this.minX = Arrays.copyOf(this.minX, capacity);
+        this.maxX = Arrays.copyOf(this.maxX, capacity);
+        // the table stays at most half full
+        this.table = new int[capacity * 2];
+        final int mask = this.table.length - 1;
+        for (int index = 0; index < this.size; index++) {
+            int slot = hash(this.keys[index]) & mask;
+            while (this.table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.table[slot] = index + 1;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public final class ModelStatistics {
+
+    // one scan feeds every model: the polynomial sums in x and y, and the degree one sums of the
+    // log-transformed pairs, each over the points inside that transform's domain
+    private final PowerSums polynomialSums = new PowerSums(PolynomialModel.MAX_DEGREE);
+    private final PowerSums logarithmicSums = new PowerSums(1);
+    private final PowerSums powerSums = new PowerSums(1);
+    private final PowerSums exponentialSums = new PowerSums(1);
+
+    public void add(final double x, final double y) {
+        this.polynomialSums.add(x, y);
+        if (y > 0.0) {
+            final double logY = Math.log(y);
+            this.exponentialSums.add(x, logY);
+            if (x > 0.0) {
+                final double logX = Math.log(x);
+                this.logarithmicSums.add(logX, y);
+                this.powerSums.add(logX, logY);
+            }
+        } else if (x > 0.0) {
+            this.logarithmicSums.add(Math.log(x), y);
+        }
+    }
+
+    public void merge(final ModelStatistics other) {
+        this.polynomialSums.merge(other.polynomialSums);
+        this.logarithmicSums.merge(other.logarithmicSums);
+        this.powerSums.merge(other.powerSums);
+        this.exponentialSums.merge(other.exponentialSums);
+    }
+
+    public PowerSums getPolynomialSums() {
+        return this.polynomialSums;
+    }
+
+    public PowerSums getLogarithmicSums() {
+        return this.logarithmicSums;
+    }
+
+    public PowerSums getPowerSums() {
+        return this.powerSums;
+    }
+
+    public PowerSums getExponentialSums() {
+        return this.exponentialSums;
+    }
+}
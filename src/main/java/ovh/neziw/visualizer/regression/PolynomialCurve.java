@@ -0,0 +1,79 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public final class PolynomialCurve implements FittedCurve {
+
+    // the polynomial is kept in the centered and scaled variable it was solved in, expanding it
+    // into powers of x would bring back the cancellation the fit avoids
+    private final double[] coefficients;
+    private final double center;
+    private final double scale;
+    private final double offset;
+    private final long count;
+    private final double totalSumOfSquares;
+    private final double residualSumOfSquares;
+
+    PolynomialCurve(final double[] coefficients, final double center, final double scale, final double offset,
+                    final long count, final double totalSumOfSquares, final double residualSumOfSquares) {
+        this.coefficients = coefficients;
+        this.center = center;
+        this.scale = scale;
+        this.offset = offset;
+        this.count = count;
+        this.totalSumOfSquares = totalSumOfSquares;
+        this.residualSumOfSquares = residualSumOfSquares;
+    }
+
+    public int getDegree() {
+        return this.coefficients.length - 1;
+    }
+
+    @Override
+    public double predict(final double x) {
+        final double t = (x - this.center) / this.scale;
+        double value = this.coefficients[this.coefficients.length - 1];
+        for (int k = this.coefficients.length - 2; k >= 0; k--) {
+            value = value * t + this.coefficients[k];
+        }
+        return value + this.offset;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getResidualSumOfSquares() {
+        return this.residualSumOfSquares;
+    }
+
+    @Override
+    public double getRSquared() {
+        if (this.totalSumOfSquares == 0.0) {
+            return 0.0;
+        }
+        return Math.max(0.0, 1.0 - this.residualSumOfSquares / this.totalSumOfSquares);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public final class PolynomialModel implements RegressionModel {
+
+    public static final int MAX_DEGREE = 6;
+    private static final PolynomialModel[] MODELS = createModels();
+    public static final PolynomialModel LINEAR = MODELS[1];
+
+    private final int degree;
+
+    private PolynomialModel(final int degree) {
+        this.degree = degree;
+    }
+
+    private static PolynomialModel[] createModels() {
+        final PolynomialModel[] models = new PolynomialModel[MAX_DEGREE + 1];
+        for (int degree = 1; degree <= MAX_DEGREE; degree++) {
+            models[degree] = new PolynomialModel(degree);
+        }
+        return models;
+    }
+
+    public static PolynomialModel of(final int degree) {
+        if (degree < 1 || degree > MAX_DEGREE) {
+            throw new IllegalArgumentException("Unsupported degree: " + degree);
+        }
+        return MODELS[degree];
+    }
+
+    public int getDegree() {
+        return this.degree;
+    }
+
+    @Override
+    public String getName() {
+        return this.degree == 1 ? "Liniowy" : "Wielomian " + this.degree + ". stopnia";
+    }
+
+    @Override
+    public FittedCurve fit(final ModelStatistics statistics) {
+        return statistics.getPolynomialSums().fit(this.degree);
+    }
+
+    @Override
+    public String toString() {
+        return this.getName();
+    }
+}
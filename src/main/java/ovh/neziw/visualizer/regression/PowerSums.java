@@ -0,0 +1,188 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public final class PowerSums {
+
+    private static final double[][] BINOMIALS = binomials(2 * PolynomialModel.MAX_DEGREE);
+
+    // sums of t^k and t^k * w with t = u - uShift and w = v - vShift; both shifts are the first
+    // point seen, which keeps the powers near the spread of the data rather than its magnitude
+    private final int degree;
+    private final double[] powers;
+    private final double[] crossPowers;
+    private double responseSquares;
+    private double uShift;
+    private double vShift;
+    private long count;
+
+    public PowerSums(final int degree) {
+        if (degree < 1 || degree > PolynomialModel.MAX_DEGREE) {
+            throw new IllegalArgumentException("Unsupported degree: " + degree);
+        }
+        this.degree = degree;
+        this.powers = new double[2 * degree + 1];
+        this.crossPowers = new double[degree + 1];
+    }
+
+    private static double[][] binomials(final int size) {
+        final double[][] binomials = new double[size + 1][];
+        for (int n = 0; n <= size; n++) {
+            binomials[n] = new double[n + 1];
+            binomials[n][0] = 1.0;
+            binomials[n][n] = 1.0;
+            for (int k = 1; k < n; k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+            }
+        }
+        return binomials;
+    }
+
+    // sums of (t + delta)^k from the sums of t^k
+    private static double[] shift(final double[] sums, final double delta) {
+        final double[] shifted = new double[sums.length];
+        for (int k = 0; k < sums.length; k++) {
+            double value = 0.0;
+            double factor = 1.0;
+            for (int j = k; j >= 0; j--) {
+                value += BINOMIALS[k][j] * factor * sums[j];
+                factor *= delta;
+            }
+            shifted[k] = value;
+        }
+        return shifted;
+    }
+
+    public void add(final double u, final double v) {
+        if (this.count == 0) {
+            this.uShift = u;
+            this.vShift = v;
+        }
+        this.count++;
+        final double t = u - this.uShift;
+        final double w = v - this.vShift;
+        this.responseSquares += w * w;
+        if (this.degree == 1) {
+            // the log-transformed pairs only need the straight line, so skip the loops
+            this.powers[0] += 1.0;
+            this.powers[1] += t;
+            this.powers[2] += t * t;
+            this.crossPowers[0] += w;
+            this.crossPowers[1] += t * w;
+            return;
+        }
+        double power = 1.0;
+        for (int k = 0; k <= this.degree; k++) {
+            this.powers[k] += power;
+            this.crossPowers[k] += power * w;
+            power *= t;
+        }
+        for (int k = this.degree + 1; k < this.powers.length; k++) {
+            this.powers[k] += power;
+            power *= t;
+        }
+    }
+
+    public void merge(final PowerSums other) {
+        if (other.degree != this.degree) {
+            throw new IllegalArgumentException("Expected degree " + this.degree + ", got " + other.degree);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            System.arraycopy(other.powers, 0, this.powers, 0, this.powers.length);
+            System.arraycopy(other.crossPowers, 0, this.crossPowers, 0, this.crossPowers.length);
+            this.responseSquares = other.responseSquares;
+            this.uShift = other.uShift;
+            this.vShift = other.vShift;
+            this.count = other.count;
+            return;
+        }
+        final double uDelta = other.uShift - this.uShift;
+        final double vDelta = other.vShift - this.vShift;
+        final double[] powers = shift(other.powers, uDelta);
+        final double[] crossPowers = shift(other.crossPowers, uDelta);
+        // w in this frame is the other's w plus vDelta
+        this.responseSquares += other.responseSquares + 2.0 * vDelta * other.crossPowers[0]
+            + vDelta * vDelta * other.count;
+        for (int k = 0; k < this.crossPowers.length; k++) {
+            this.crossPowers[k] += crossPowers[k] + vDelta * powers[k];
+        }
+        for (int k = 0; k < this.powers.length; k++) {
+            this.powers[k] += powers[k];
+        }
+        this.count += other.count;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public int getDegree() {
+        return this.degree;
+    }
+
+    public PolynomialCurve fit(final int fitDegree) {
+        if (fitDegree < 1 || fitDegree > this.degree) {
+            throw new IllegalArgumentException("Unsupported degree: " + fitDegree);
+        }
+        if (this.count <= fitDegree) {
+            return null;
+        }
+        // center t on its mean and scale it by a power of two near its spread, so the Gram matrix
+        // of 1, t, ..., t^d stays well conditioned; the scaling itself is exact
+        final double mean = this.powers[1] / this.count;
+        final double[] centered = shift(this.powers, -mean);
+        final double[] centeredCross = shift(this.crossPowers, -mean);
+        final double spread = Math.sqrt(centered[2] / this.count);
+        if (!(spread > 0.0) || !Double.isFinite(spread)) {
+            return null;
+        }
+        final int exponent = Math.getExponent(spread);
+        final int size = fitDegree + 2;
+        final int response = fitDegree + 1;
+        final double[][] gram = new double[size][size];
+        for (int row = 0; row <= fitDegree; row++) {
+            for (int column = row; column <= fitDegree; column++) {
+                gram[row][column] = Math.scalb(centered[row + column], -exponent * (row + column));
+            }
+            gram[row][response] = Math.scalb(centeredCross[row], -exponent * row);
+        }
+        gram[response][response] = this.responseSquares;
+        if (!Cholesky.factor(gram, response)) {
+            return null;
+        }
+        final double[] coefficients = new double[response];
+        for (int row = 0; row < response; row++) {
+            coefficients[row] = gram[row][response];
+        }
+        Cholesky.solveUpper(gram, response, coefficients);
+        final double residualSumOfSquares = gram[response][response] * gram[response][response];
+        final double totalSumOfSquares = Math.max(0.0,
+            this.responseSquares - this.crossPowers[0] * this.crossPowers[0] / this.count);
+        return new PolynomialCurve(coefficients, this.uShift + mean, Math.scalb(1.0, exponent), this.vShift,
+            this.count, totalSumOfSquares, residualSumOfSquares);
+    }
+}
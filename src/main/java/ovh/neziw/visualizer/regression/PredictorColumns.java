@@ -0,0 +1,68 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.PointColumns;
+
+public interface PredictorColumns {
+
+    int size();
+
+    int predictorCount();
+
+    boolean isValid(int row);
+
+    double getPredictor(int row, int predictor);
+
+    double getResponse(int row);
+
+    static PredictorColumns of(final PointColumns points) {
+        return new PredictorColumns() {
+            @Override
+            public int size() {
+                return points.size();
+            }
+
+            @Override
+            public int predictorCount() {
+                return 1;
+            }
+
+            @Override
+            public boolean isValid(final int row) {
+                return points.isValid(row);
+            }
+
+            @Override
+            public double getPredictor(final int row, final int predictor) {
+                return points.getX(row);
+            }
+
+            @Override
+            public double getResponse(final int row) {
+                return points.getY(row);
+            }
+        };
+    }
+}
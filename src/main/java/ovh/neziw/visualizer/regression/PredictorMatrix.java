@@ -0,0 +1,198 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.Arrays;
+
+public final class PredictorMatrix implements PredictorColumns {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // one array per predictor, so a block of rows is read column by column; as in DataColumns every
+    // column has a presence bitset and rows missing any value are left out of the fit
+    private final double[][] predictors;
+    private final long[][] predictorPresent;
+    private double[] response;
+    private long[] responsePresent;
+    private int size;
+
+    public PredictorMatrix(final int predictorCount) {
+        this(predictorCount, INITIAL_CAPACITY);
+    }
+
+    public PredictorMatrix(final int predictorCount, final int capacity) {
+        if (predictorCount < 1) {
+            throw new IllegalArgumentException("At least one predictor is required: " + predictorCount);
+        }
+        final int initialCapacity = Math.max(capacity, 1);
+        this.predictors = new double[predictorCount][initialCapacity];
+        this.predictorPresent = new long[predictorCount][wordCount(initialCapacity)];
+        this.response = new double[initialCapacity];
+        this.responsePresent = new long[wordCount(initialCapacity)];
+    }
+
+    private static int wordCount(final int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void checkFinite(final double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Value is not finite: " + value);
+        }
+    }
+
+    // NaN marks a missing value; infinite values are rejected
+    public void addRow(final double responseValue, final double... predictorValues) {
+        if (predictorValues.length != this.predictors.length) {
+            throw new IllegalArgumentException("Expected " + this.predictors.length + " predictors, got "
+                + predictorValues.length);
+        }
+        if (Double.isInfinite(responseValue)) {
+            throw new IllegalArgumentException("Value is not finite: " + responseValue);
+        }
+        for (final double value : predictorValues) {
+            if (Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Value is not finite: " + value);
+            }
+        }
+        final int row = this.size;
+        this.setSize(row + 1);
+        for (int predictor = 0; predictor < this.predictors.length; predictor++) {
+            if (!Double.isNaN(predictorValues[predictor])) {
+                this.setPredictor(row, predictor, predictorValues[predictor]);
+            }
+        }
+        if (!Double.isNaN(responseValue)) {
+            this.setResponse(row, responseValue);
+        }
+    }
+
+    public void setSize(final int newSize) {
+        if (newSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + newSize);
+        }
+        if (newSize > this.size) {
+            this.ensureCapacity(newSize);
+        } else {
+            for (int row = newSize; row < this.size; row++) {
+                for (int predictor = 0; predictor < this.predictors.length; predictor++) {
+                    this.clearPredictor(row, predictor);
+                }
+                this.clearResponse(row);
+            }
+        }
+        this.size = newSize;
+    }
+
+    public void ensureCapacity(final int capacity) {
+        if (capacity <= this.response.length) {
+            return;
+        }
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8,
+            Math.max((long) capacity, this.response.length + ((long) this.response.length >> 1)));
+        for (int predictor = 0; predictor < this.predictors.length; predictor++) {
+            this.predictors[predictor] = Arrays.copyOf(this.predictors[predictor], newCapacity);
+            this.predictorPresent[predictor] = Arrays.copyOf(this.predictorPresent[predictor],
+                wordCount(newCapacity));
+        }
+        this.response = Arrays.copyOf(this.response, newCapacity);
+        this.responsePresent = Arrays.copyOf(this.responsePresent, wordCount(newCapacity));
+    }
+
+    public void setPredictor(final int row, final int predictor, final double value) {
+        checkFinite(value);
+        this.predictors[predictor][row] = value;
+        this.predictorPresent[predictor][row >>> 6] |= 1L << row;
+    }
+
+    public void setResponse(final int row, final double value) {
+        checkFinite(value);
+        this.response[row] = value;
+        this.responsePresent[row >>> 6] |= 1L << row;
+    }
+
+    public void clearPredictor(final int row, final int predictor) {
+        this.predictors[predictor][row] = 0.0;
+        this.predictorPresent[predictor][row >>> 6] &= ~(1L << row);
+    }
+
+    public void clearResponse(final int row) {
+        this.response[row] = 0.0;
+        this.responsePresent[row >>> 6] &= ~(1L << row);
+    }
+
+    public boolean hasPredictor(final int row, final int predictor) {
+        return (this.predictorPresent[predictor][row >>> 6] & (1L << row)) != 0;
+    }
+
+    public boolean hasResponse(final int row) {
+        return (this.responsePresent[row >>> 6] & (1L << row)) != 0;
+    }
+
+    public double[] getPredictorValues(final int predictor) {
+        return this.predictors[predictor];
+    }
+
+    public long[] getPredictorPresent(final int predictor) {
+        return this.predictorPresent[predictor];
+    }
+
+    public double[] getResponseValues() {
+        return this.response;
+    }
+
+    public long[] getResponsePresent() {
+        return this.responsePresent;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public int predictorCount() {
+        return this.predictors.length;
+    }
+
+    @Override
+    public boolean isValid(final int row) {
+        final int word = row >>> 6;
+        long bits = this.responsePresent[word];
+        for (final long[] present : this.predictorPresent) {
+            bits &= present[word];
+        }
+        return (bits & (1L << row)) != 0;
+    }
+
+    @Override
+    public double getPredictor(final int row, final int predictor) {
+        return this.predictors[predictor][row];
+    }
+
+    @Override
+    public double getResponse(final int row) {
+        return this.response[row];
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.ChunkedTask;
+import ovh.neziw.visualizer.PointColumns;
+
+public enum RegressionEngine {
+
+    SUMS {
+        @Override
+        public RegressionStatistics createStatistics() {
+            return new SumStatistics();
+        }
+    },
+    WELFORD {
+        @Override
+        public RegressionStatistics createStatistics() {
+            return new WelfordStatistics();
+        }
+    };
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = Integer.getInteger("visualizer.parallelThreshold", 1 << 18);
+
+    public abstract RegressionStatistics createStatistics();
+
+    public RegressionStatistics accumulate(final PointColumns columns) {
+        return this.accumulate(columns, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public RegressionStatistics accumulate(final PointColumns columns, final int parallelThreshold) {
+        return ChunkedTask.invoke(columns.size(), parallelThreshold, (from, to) -> {
+            final RegressionStatistics statistics = this.createStatistics();
+            statistics.addRange(columns, from, to);
+            return statistics;
+        }, (left, right) -> {
+            left.merge(right);
+            return left;
+        });
+    }
+
+    public DataSummary summarize(final PointColumns columns) {
+        return this.summarize(columns, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public DataSummary summarize(final PointColumns columns, final int parallelThreshold) {
+        return this.summarize(columns, parallelThreshold, true, false);
+    }
+
+    // without accumulate the summary gathers the ranges and groups but leaves its statistics empty;
+    // the curve model sums are gathered only when asked for
+    DataSummary summarize(final PointColumns columns, final int parallelThreshold, final boolean accumulate,
+                          final boolean models) {
+        return ChunkedTask.invoke(columns.size(), parallelThreshold, (from, to) -> {
+            final DataSummary summary = new DataSummary(this.createStatistics(), models);
+            summary.addRange(columns, from, to, accumulate);
+            return summary;
+        }, (left, right) -> {
+            left.merge(right);
+            return left;
+        });
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class RegressionKernels {
+
+    private static final Logger LOGGER = Logger.getLogger(RegressionKernels.class.getName());
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "ovh.neziw.visualizer.regression.VectorRegressionKernel";
+    private static final RegressionKernel SCALAR = new ScalarRegressionKernel();
+    private static final RegressionKernel VECTOR = loadVectorKernel();
+    private static final RegressionKernel ACTIVE =
+        VECTOR == null || Boolean.getBoolean("visualizer.disableVector") ? SCALAR : VECTOR;
+
+    public static RegressionKernel get() {
+        return ACTIVE;
+    }
+
+    public static RegressionKernel scalar() {
+        return SCALAR;
+    }
+
+    // null when the jar was built without the vector source set or the module is not loaded
+    public static RegressionKernel vector() {
+        return VECTOR;
+    }
+
+    public static boolean isVectorized() {
+        return ACTIVE != SCALAR;
+    }
+
+    private static RegressionKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            final Class<?> kernelClass = Class.forName(VECTOR_KERNEL_CLASS);
+            return (RegressionKernel) kernelClass.getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError exception) {
+            LOGGER.log(Level.FINE, "Vector regression kernel unavailable, using scalar kernel", exception);
+            return null;
+        }
+    }
+}
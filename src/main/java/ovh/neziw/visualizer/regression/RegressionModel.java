@@ -0,0 +1,46 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public interface RegressionModel {
+
+    String getName();
+
+    // fitted from the sums alone, so switching between models does not touch the data again;
+    // null when the model's domain holds too few points or they cannot determine it
+    FittedCurve fit(ModelStatistics statistics);
+
+    static List<RegressionModel> available() {
+        final List<RegressionModel> models = new ArrayList<>();
+        for (int degree = 1; degree <= PolynomialModel.MAX_DEGREE; degree++) {
+            models.add(PolynomialModel.of(degree));
+        }
+        Collections.addAll(models, TransformedModel.values());
+        return Collections.unmodifiableList(models);
+    }
+}
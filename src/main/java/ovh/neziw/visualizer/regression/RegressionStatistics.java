@@ -0,0 +1,82 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+
+public abstract class RegressionStatistics {
+
+    public abstract void add(double x, double y);
+
+    public abstract void remove(double x, double y);
+
+    public abstract void merge(RegressionStatistics other);
+
+    public abstract void clear();
+
+    public abstract RegressionStatistics copy();
+
+    public abstract long getCount();
+
+    public abstract double getMeanX();
+
+    public abstract double getMeanY();
+
+    public abstract double getSxx();
+
+    public abstract double getSyy();
+
+    public abstract double getSxy();
+
+    public void addAll(final PointColumns columns) {
+        this.addRange(columns, 0, columns.size());
+    }
+
+    public void addRange(final PointColumns columns, final int from, final int to) {
+        for (int row = from; row < to; row++) {
+            if (columns.isValid(row)) {
+                this.add(columns.getX(row), columns.getY(row));
+            }
+        }
+    }
+
+    public LinearRegressionCalculator.RegressionResult toResult() {
+        return toResult(this.getCount(), this.getMeanX(), this.getMeanY(), this.getSxx(), this.getSyy(), this.getSxy());
+    }
+
+    static LinearRegressionCalculator.RegressionResult toResult(final long count, final double meanX,
+                                                                final double meanY, final double sxx,
+                                                                final double syy, final double sxy) {
+        if (count < 2) {
+            return null;
+        }
+        final double slope = sxy / sxx;
+        final double intercept = meanY - slope * meanX;
+        // the residual sum of squares follows from the same sums: RSS = Syy - Sxy^2 / Sxx
+        final double residualSumOfSquares = sxx == 0.0 ? syy : Math.max(0.0, syy - slope * sxy);
+        return new LinearRegressionCalculator.RegressionResult(slope, intercept, count, meanX, sxx, syy,
+            residualSumOfSquares);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+final class ScalarRegressionKernel implements RegressionKernel {
+
+    @Override
+    public void accumulate(final double[] xValues, final double[] yValues,
+                           final long[] xPresent, final long[] yPresent,
+                           final int from, final int to, final double shiftX, final double shiftY,
+                           final double[] sums) {
+        long count = 0;
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double sumXY = 0.0;
+        double sumXX = 0.0;
+        double sumYY = 0.0;
+        for (int row = from; row < to; row++) {
+            if (((xPresent[row >>> 6] & yPresent[row >>> 6]) & (1L << row)) == 0) {
+                continue;
+            }
+            final double x = xValues[row] - shiftX;
+            final double y = yValues[row] - shiftY;
+            count++;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+            sumYY += y * y;
+        }
+        sums[COUNT] += count;
+        sums[SUM_X] += sumX;
+        sums[SUM_Y] += sumY;
+        sums[SUM_XY] += sumXY;
+        sums[SUM_XX] += sumXX;
+        sums[SUM_YY] += sumYY;
+    }
+}
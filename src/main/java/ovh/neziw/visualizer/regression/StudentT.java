@@ -0,0 +1,130 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public final class StudentT {
+
+    private static final double EPSILON = 1e-15;
+    private static final double TINY = 1e-300;
+    private static final int MAX_FRACTION_TERMS = 1 << 20;
+    private static final int MAX_BISECTIONS = 200;
+    private static final double[] LANCZOS = {
+        0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+        -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+        9.9843695780195716e-6, 1.5056327351493116e-7
+    };
+
+    private StudentT() {
+    }
+
+    public static double quantile(final double probability, final long degreesOfFreedom) {
+        if (degreesOfFreedom < 1 || !(probability > 0.0 && probability < 1.0)) {
+            return Double.NaN;
+        }
+        if (probability == 0.5) {
+            return 0.0;
+        }
+        final double tail = Math.min(probability, 1.0 - probability);
+        double low = 0.0;
+        double high = 1.0;
+        while (upperTail(high, degreesOfFreedom) > tail) {
+            low = high;
+            high *= 2.0;
+        }
+        for (int i = 0; i < MAX_BISECTIONS && high - low > EPSILON * high; i++) {
+            final double middle = 0.5 * (low + high);
+            if (upperTail(middle, degreesOfFreedom) > tail) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        final double t = 0.5 * (low + high);
+        return probability > 0.5 ? t : -t;
+    }
+
+    static double upperTail(final double t, final long degreesOfFreedom) {
+        final double v = degreesOfFreedom;
+        return 0.5 * regularizedBeta(v / (v + t * t), 0.5 * v, 0.5);
+    }
+
+    static double regularizedBeta(final double x, final double a, final double b) {
+        if (x <= 0.0) {
+            return 0.0;
+        }
+        if (x >= 1.0) {
+            return 1.0;
+        }
+        final double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+            + a * Math.log(x) + b * Math.log1p(-x));
+        // the continued fraction converges quickly only below the mean of the distribution
+        if (x < (a + 1.0) / (a + b + 2.0)) {
+            return front * continuedFraction(x, a, b) / a;
+        }
+        return 1.0 - front * continuedFraction(1.0 - x, b, a) / b;
+    }
+
+    private static double continuedFraction(final double x, final double a, final double b) {
+        double c = 1.0;
+        double d = 1.0 - (a + b) * x / (a + 1.0);
+        if (Math.abs(d) < TINY) {
+            d = TINY;
+        }
+        d = 1.0 / d;
+        double fraction = d;
+        for (int m = 1; m <= MAX_FRACTION_TERMS; m++) {
+            final int m2 = 2 * m;
+            double term = m * (b - m) * x / ((a + m2 - 1.0) * (a + m2));
+            d = 1.0 + term * d;
+            c = 1.0 + term / c;
+            d = 1.0 / (Math.abs(d) < TINY ? TINY : d);
+            c = Math.abs(c) < TINY ? TINY : c;
+            fraction *= d * c;
+            term = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1.0));
+            d = 1.0 + term * d;
+            c = 1.0 + term / c;
+            d = 1.0 / (Math.abs(d) < TINY ? TINY : d);
+            c = Math.abs(c) < TINY ? TINY : c;
+            final double delta = d * c;
+            fraction *= delta;
+            if (Math.abs(delta - 1.0) < EPSILON) {
+                break;
+            }
+        }
+        return fraction;
+    }
+
+    static double logGamma(final double x) {
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.abs(Math.sin(Math.PI * x))) - logGamma(1.0 - x);
+        }
+        final double z = x - 1.0;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (z + i);
+        }
+        final double t = z + LANCZOS.length - 1.5;
+        return 0.5 * Math.log(2.0 * Math.PI) + (z + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.PointColumns;
+
+public final class SumStatistics extends RegressionStatistics {
+
+    private long count;
+    private double sumX;
+    private double sumY;
+    private double sumXY;
+    private double sumXX;
+    private double sumYY;
+
+    @Override
+    public void add(final double x, final double y) {
+        this.count++;
+        this.sumX += x;
+        this.sumY += y;
+        this.sumXY += x * y;
+        this.sumXX += x * x;
+        this.sumYY += y * y;
+    }
+
+    @Override
+    public void remove(final double x, final double y) {
+        if (this.count <= 1) {
+            this.clear();
+            return;
+        }
+        this.count--;
+        this.sumX -= x;
+        this.sumY -= y;
+        this.sumXY -= x * y;
+        this.sumXX -= x * x;
+        this.sumYY -= y * y;
+    }
+
+    @Override
+    public void addRange(final PointColumns points, final int from, final int to) {
+        if (!(points instanceof DataColumns)) {
+            super.addRange(points, from, to);
+            return;
+        }
+        final DataColumns columns = (DataColumns) points;
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        RegressionKernels.get().accumulate(columns.getXValues(), columns.getYValues(),
+            columns.getXPresent(), columns.getYPresent(), from, to, 0.0, 0.0, sums);
+        this.count += (long) sums[RegressionKernel.COUNT];
+        this.sumX += sums[RegressionKernel.SUM_X];
+        this.sumY += sums[RegressionKernel.SUM_Y];
+        this.sumXY += sums[RegressionKernel.SUM_XY];
+        this.sumXX += sums[RegressionKernel.SUM_XX];
+        this.sumYY += sums[RegressionKernel.SUM_YY];
+    }
+
+    @Override
+    public void merge(final RegressionStatistics other) {
+        final long otherCount = other.getCount();
+        if (otherCount == 0) {
+            return;
+        }
+        final double otherMeanX = other.getMeanX();
+        final double otherMeanY = other.getMeanY();
+        this.count += otherCount;
+        this.sumX += otherCount * otherMeanX;
+        this.sumY += otherCount * otherMeanY;
+        this.sumXY += other.getSxy() + otherCount * otherMeanX * otherMeanY;
+        this.sumXX += other.getSxx() + otherCount * otherMeanX * otherMeanX;
+        this.sumYY += other.getSyy() + otherCount * otherMeanY * otherMeanY;
+    }
+
+    @Override
+    public void clear() {
+        this.count = 0;
+        this.sumX = 0.0;
+        this.sumY = 0.0;
+        this.sumXY = 0.0;
+        this.sumXX = 0.0;
+        this.sumYY = 0.0;
+    }
+
+    @Override
+    public SumStatistics copy() {
+        final SumStatistics copy = new SumStatistics();
+        copy.count = this.count;
+        copy.sumX = this.sumX;
+        copy.sumY = this.sumY;
+        copy.sumXY = this.sumXY;
+        copy.sumXX = this.sumXX;
+        copy.sumYY = this.sumYY;
+        return copy;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public double getMeanX() {
+        return this.count == 0 ? 0.0 : this.sumX / this.count;
+    }
+
+    @Override
+    public double getMeanY() {
+        return this.count == 0 ? 0.0 : this.sumY / this.count;
+    }
+
+    @Override
+    public double getSxx() {
+        return this.count == 0 ? 0.0 : this.sumXX - this.sumX * this.sumX / this.count;
+    }
+
+    @Override
+    public double getSyy() {
+        return this.count == 0 ? 0.0 : this.sumYY - this.sumY * this.sumY / this.count;
+    }
+
+    @Override
+    public double getSxy() {
+        return this.count == 0 ? 0.0 : this.sumXY - this.sumX * this.sumY / this.count;
+    }
+
+    public double getSumX() {
+        return this.sumX;
+    }
+
+    public double getSumY() {
+        return this.sumY;
+    }
+
+    public double getSumXY() {
+        return this.sumXY;
+    }
+
+    public double getSumXX() {
+        return this.sumXX;
+    }
+
+    public double getSumYY() {
+        return this.sumYY;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+public enum TransformedModel implements RegressionModel {
+
+    // y = a + b ln x
+    LOGARITHMIC("Logarytmiczny") {
+        @Override
+        PowerSums select(final ModelStatistics statistics) {
+            return statistics.getLogarithmicSums();
+        }
+
+        @Override
+        double transformX(final double x) {
+            return x > 0.0 ? Math.log(x) : Double.NaN;
+        }
+
+        @Override
+        double inverseY(final double value) {
+            return value;
+        }
+    },
+    // y = a x^b, fitted as ln y = ln a + b ln x
+    POWER("Potęgowy") {
+        @Override
+        PowerSums select(final ModelStatistics statistics) {
+            return statistics.getPowerSums();
+        }
+
+        @Override
+        double transformX(final double x) {
+            return x > 0.0 ? Math.log(x) : Double.NaN;
+        }
+
+        @Override
+        double inverseY(final double value) {
+            return Math.exp(value);
+        }
+    },
+    // y = a e^(bx), fitted as ln y = ln a + b x
+    EXPONENTIAL("Wykładniczy") {
+        @Override
+        PowerSums select(final ModelStatistics statistics) {
+            return statistics.getExponentialSums();
+        }
+
+        @Override
+        double transformX(final double x) {
+            return x;
+        }
+
+        @Override
+        double inverseY(final double value) {
+            return Math.exp(value);
+        }
+    };
+
+    private final String name;
+
+    TransformedModel(final String name) {
+        this.name = name;
+    }
+
+    abstract PowerSums select(ModelStatistics statistics);
+
+    abstract double transformX(double x);
+
+    abstract double inverseY(double value);
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public FittedCurve fit(final ModelStatistics statistics) {
+        final PolynomialCurve line = this.select(statistics).fit(1);
+        if (line == null) {
+            return null;
+        }
+        // R² is reported on the transformed scale the line was fitted on
+        return new FittedCurve() {
+            @Override
+            public double predict(final double x) {
+                return TransformedModel.this.inverseY(line.predict(TransformedModel.this.transformX(x)));
+            }
+
+            @Override
+            public double getRSquared() {
+                return line.getRSquared();
+            }
+
+            @Override
+            public long getCount() {
+                return line.getCount();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import java.util.Arrays;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.PointColumns;
+
+public final class WelfordStatistics extends RegressionStatistics {
+
+    private static final int BLOCK_ROWS = 4096;
+
+    private long count;
+    private double meanX;
+    private double meanY;
+    private double sxx;
+    private double syy;
+    private double sxy;
+
+    public static WelfordStatistics of(final long count, final double meanX, final double meanY,
+                                       final double sxx, final double syy, final double sxy) {
+        final WelfordStatistics statistics = new WelfordStatistics();
+        if (count > 0) {
+            statistics.count = count;
+            statistics.meanX = meanX;
+            statistics.meanY = meanY;
+            statistics.sxx = sxx;
+            statistics.syy = syy;
+            statistics.sxy = sxy;
+        }
+        return statistics;
+    }
+
+    @Override
+    public void add(final double x, final double y) {
+        this.count++;
+        final double dx = x - this.meanX;
+        final double dy = y - this.meanY;
+        this.meanX += dx / this.count;
+        this.meanY += dy / this.count;
+        this.sxx += dx * (x - this.meanX);
+        this.syy += dy * (y - this.meanY);
+        this.sxy += dx * (y - this.meanY);
+    }
+
+    @Override
+    public void remove(final double x, final double y) {
+        if (this.count <= 1) {
+            this.clear();
+            return;
+        }
+        final double dx = x - this.meanX;
+        final double dy = y - this.meanY;
+        this.count--;
+        this.meanX -= dx / this.count;
+        this.meanY -= dy / this.count;
+        this.sxx = Math.max(0.0, this.sxx - dx * (x - this.meanX));
+        this.syy = Math.max(0.0, this.syy - dy * (y - this.meanY));
+        this.sxy -= dy * (x - this.meanX);
+    }
+
+    @Override
+    public void addRange(final PointColumns points, final int from, final int to) {
+        if (!(points instanceof DataColumns)) {
+            super.addRange(points, from, to);
+            return;
+        }
+        final DataColumns columns = (DataColumns) points;
+        int row = from;
+        // the first point seeds the means every block is shifted by
+        while (this.count == 0 && row < to) {
+            if (columns.isValid(row)) {
+                this.add(columns.getX(row), columns.getY(row));
+            }
+            row++;
+        }
+        final RegressionKernel kernel = RegressionKernels.get();
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        while (row < to) {
+            final int blockEnd = to - row > BLOCK_ROWS ? row + BLOCK_ROWS : to;
+            kernel.accumulate(columns.getXValues(), columns.getYValues(), columns.getXPresent(),
+                columns.getYPresent(), row, blockEnd, this.meanX, this.meanY, sums);
+            this.addBlock(sums);
+            Arrays.fill(sums, 0.0);
+            row = blockEnd;
+        }
+    }
+
+    // the block sums are deviations from the current means, so the block's own mean offsets are
+    // dx and dy and its centered moments follow directly; they are then merged like another partition
+    private void addBlock(final double[] sums) {
+        final long blockCount = (long) sums[RegressionKernel.COUNT];
+        if (blockCount == 0) {
+            return;
+        }
+        final double dx = sums[RegressionKernel.SUM_X] / blockCount;
+        final double dy = sums[RegressionKernel.SUM_Y] / blockCount;
+        final long total = this.count + blockCount;
+        final double weight = (double) this.count * blockCount / total;
+        this.meanX += dx * blockCount / total;
+        this.meanY += dy * blockCount / total;
+        this.sxx += sums[RegressionKernel.SUM_XX] - sums[RegressionKernel.SUM_X] * dx + dx * dx * weight;
+        this.syy += sums[RegressionKernel.SUM_YY] - sums[RegressionKernel.SUM_Y] * dy + dy * dy * weight;
+        this.sxy += sums[RegressionKernel.SUM_XY] - sums[RegressionKernel.SUM_X] * dy + dx * dy * weight;
+        this.count = total;
+    }
+
+    @Override
+    public void merge(final RegressionStatistics other) {
+        final long otherCount = other.getCount();
+        if (otherCount == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            this.count = otherCount;
+            this.meanX = other.getMeanX();
+            this.meanY = other.getMeanY();
+            this.sxx = other.getSxx();
+            this.syy = other.getSyy();
+            this.sxy = other.getSxy();
+            return;
+        }
+        final long total = this.count + otherCount;
+        final double dx = other.getMeanX() - this.meanX;
+        final double dy = other.getMeanY() - this.meanY;
+        final double weight = (double) this.count * otherCount / total;
+        this.meanX += dx * otherCount / total;
+        this.meanY += dy * otherCount / total;
+        this.sxx += other.getSxx() + dx * dx * weight;
+        this.syy += other.getSyy() + dy * dy * weight;
+        this.sxy += other.getSxy() + dx * dy * weight;
+        this.count = total;
+    }
+
+    @Override
+    public void clear() {
+        this.count = 0;
+        this.meanX = 0.0;
+        this.meanY = 0.0;
+        this.sxx = 0.0;
+        this.syy = 0.0;
+        this.sxy = 0.0;
+    }
+
+    @Override
+    public WelfordStatistics copy() {
+        final WelfordStatistics copy = new WelfordStatistics();
+        copy.count = this.count;
+        copy.meanX = this.meanX;
+        copy.meanY = this.meanY;
+        copy.sxx = this.sxx;
+        copy.syy = this.syy;
+        copy.sxy = this.sxy;
+        return copy;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public double getMeanX() {
+        return this.meanX;
+    }
+
+    @Override
+    public double getMeanY() {
+        return this.meanY;
+    }
+
+    @Override
+    public double getSxx() {
+        return this.sxx;
+    }
+
+    @Override
+    public double getSyy() {
+        return this.syy;
+    }
+
+    @Override
+    public double getSxy() {
+        return this.sxy;
+    }
+}
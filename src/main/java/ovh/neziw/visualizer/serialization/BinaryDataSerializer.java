@@ -0,0 +1,501 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.serialization;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+import ovh.neziw.visualizer.MappedDataColumns;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
+import ovh.neziw.visualizer.regression.WelfordStatistics;
+
+public class BinaryDataSerializer {
+
+    public static final String FILE_EXTENSION = "lrvb";
+    static final int MAGIC = 0x4256524C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    private static final int FLAG_CHART_SETTINGS = 1;
+    private static final int FLAG_GROUPS = 2;
+    private static final int FLAG_STATISTICS = 4;
+    private static final int FLAG_PREDICTORS = 8;
+    private static final int MAX_PREDICTORS = 1 << 12;
+    private static final int STATISTICS_SIZE = Long.BYTES + 5 * Double.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static boolean isBinaryFile(final File file) {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return buffer.getInt(0) == MAGIC;
+        } catch (final IOException exception) {
+            return false;
+        }
+    }
+
+    static int wordCount(final int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    static long align(final long position) {
+        return (position + 7) & ~7L;
+    }
+
+    public void writeToFile(final File file, final SavedData savedData) throws IOException {
+        this.writeToFile(file, savedData, ProgressListener.NONE);
+    }
+
+    public void writeToFile(final File file, final SavedData savedData,
+                            final ProgressListener listener) throws IOException {
+        final PointColumns columns = savedData.getColumns();
+        final int rows = columns.size();
+        final byte[] settings = this.encodeSettings(savedData.getChartSettings());
+        // the moments let a mapped load skip its own pass over the rows; readers predating the flag
+        // never look past the settings, so the block fits in the existing padding region
+        final RegressionStatistics statistics = LinearRegressionCalculator.DEFAULT_ENGINE.accumulate(columns);
+        final long dataOffset = align(HEADER_SIZE + settings.length + STATISTICS_SIZE);
+        final boolean groups = columns.hasGroups();
+
+        // the source may be a mapping of the target, so it must never be truncated in place
+        AtomicFiles.write(file, path -> {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC);
+                buffer.putInt(VERSION);
+                buffer.putInt(rows);
+                buffer.putInt((savedData.getChartSettings() != null ? FLAG_CHART_SETTINGS : 0)
+                    | (groups ? FLAG_GROUPS : 0) | FLAG_STATISTICS);
+                buffer.putLong(dataOffset);
+                buffer.put(settings);
+                this.encodeStatistics(buffer, statistics);
+                while (buffer.position() < dataOffset) {
+                    buffer.put((byte) 0);
+                }
+                if (columns instanceof DataColumns) {
+                    final DataColumns dataColumns = (DataColumns) columns;
+                    this.writeDoubles(channel, buffer, dataColumns.getXValues(), rows, listener, 0L);
+                    this.writeDoubles(channel, buffer, dataColumns.getYValues(), rows, listener, rows);
+                    this.writeLongs(channel, buffer, dataColumns.getXPresent(), wordCount(rows));
+                    this.writeLongs(channel, buffer, dataColumns.getYPresent(), wordCount(rows));
+                    if (groups) {
+                        this.writeLongs(channel, buffer, dataColumns.getGroupValues(), rows);
+                        this.writeLongs(channel, buffer, dataColumns.getGroupPresent(), wordCount(rows));
+                    }
+                } else {
+                    this.writeColumns(channel, buffer, columns, listener);
+                }
+                this.flush(channel, buffer);
+            }
+        });
+    }
+
+    // the first predictor and the response take the X and Y columns, so the file also opens as a plain
+    // dataset; the other predictors follow the regular columns and their count follows the statistics
+    public void writePredictorsToFile(final File file, final PredictorMatrix matrix) throws IOException {
+        final int rows = matrix.size();
+        final int predictorCount = matrix.predictorCount();
+        final WelfordStatistics statistics = new WelfordStatistics();
+        for (int row = 0; row < rows; row++) {
+            if (matrix.hasPredictor(row, 0) && matrix.hasResponse(row)) {
+                statistics.add(matrix.getPredictor(row, 0), matrix.getResponse(row));
+            }
+        }
+        final long dataOffset = align(HEADER_SIZE + STATISTICS_SIZE + Integer.BYTES);
+
+        AtomicFiles.write(file, path -> {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC);
+                buffer.putInt(VERSION);
+                buffer.putInt(rows);
+                buffer.putInt(FLAG_STATISTICS | FLAG_PREDICTORS);
+                buffer.putLong(dataOffset);
+                this.encodeStatistics(buffer, statistics);
+                buffer.putInt(predictorCount - 1);
+                while (buffer.position() < dataOffset) {
+                    buffer.put((byte) 0);
+                }
+                this.writeDoubles(channel, buffer, matrix.getPredictorValues(0), rows, ProgressListener.NONE, 0L);
+                this.writeDoubles(channel, buffer, matrix.getResponseValues(), rows, ProgressListener.NONE, 0L);
+                this.writeLongs(channel, buffer, matrix.getPredictorPresent(0), wordCount(rows));
+                this.writeLongs(channel, buffer, matrix.getResponsePresent(), wordCount(rows));
+                for (int predictor = 1; predictor < predictorCount; predictor++) {
+                    this.writeDoubles(channel, buffer, matrix.getPredictorValues(predictor), rows,
+                        ProgressListener.NONE, 0L);
+                    this.writeLongs(channel, buffer, matrix.getPredictorPresent(predictor), wordCount(rows));
+                }
+                this.flush(channel, buffer);
+            }
+        });
+    }
+
+    public PredictorMatrix readPredictorsFromFile(final File file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final Header header = this.readHeader(channel);
+            final int rows = header.rows;
+            final PredictorMatrix matrix = new PredictorMatrix(header.predictorCount, rows);
+            matrix.setSize(rows);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+            this.readDoubles(channel, buffer, matrix.getPredictorValues(0), rows, ProgressListener.NONE, 0L);
+            this.readDoubles(channel, buffer, matrix.getResponseValues(), rows, ProgressListener.NONE, 0L);
+            this.readLongs(channel, buffer, matrix.getPredictorPresent(0), wordCount(rows));
+            this.readLongs(channel, buffer, matrix.getResponsePresent(), wordCount(rows));
+            clearTrailingBits(matrix.getPredictorPresent(0), rows);
+            clearTrailingBits(matrix.getResponsePresent(), rows);
+            if (header.groups) {
+                this.skip(channel, buffer, (long) Long.BYTES * rows + (long) Long.BYTES * wordCount(rows));
+            }
+            for (int predictor = 1; predictor < header.predictorCount; predictor++) {
+                this.readDoubles(channel, buffer, matrix.getPredictorValues(predictor), rows,
+                    ProgressListener.NONE, 0L);
+                this.readLongs(channel, buffer, matrix.getPredictorPresent(predictor), wordCount(rows));
+                clearTrailingBits(matrix.getPredictorPresent(predictor), rows);
+            }
+            return matrix;
+        }
+    }
+
+    public SavedData readFromFile(final File file) throws IOException {
+        return this.readFromFile(file, ProgressListener.NONE);
+    }
+
+    public SavedData readFromFile(final File file, final ProgressListener listener) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final Header header = this.readHeader(channel);
+            final int rows = header.rows;
+            final DataColumns columns = new DataColumns(rows);
+            columns.setSize(rows);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+            this.readDoubles(channel, buffer, columns.getXValues(), rows, listener, 0L);
+            this.readDoubles(channel, buffer, columns.getYValues(), rows, listener, rows);
+            this.readLongs(channel, buffer, columns.getXPresent(), wordCount(rows));
+            this.readLongs(channel, buffer, columns.getYPresent(), wordCount(rows));
+            clearTrailingBits(columns.getXPresent(), rows);
+            clearTrailingBits(columns.getYPresent(), rows);
+            if (header.groups) {
+                this.readLongs(channel, buffer, columns.getGroupValues(), rows);
+                this.readLongs(channel, buffer, columns.getGroupPresent(), wordCount(rows));
+                clearTrailingBits(columns.getGroupPresent(), rows);
+            }
+            return new SavedData(columns, header.chartSettings, header.statistics);
+        }
+    }
+
+    public SavedData openMapped(final File file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final Header header = this.readHeader(channel);
+            // mappings stay valid after the channel is closed
+            final MappedDataColumns columns = MappedDataColumns.map(channel, header.dataOffset, header.rows,
+                header.groups);
+            return new SavedData(columns, header.chartSettings, header.statistics);
+        }
+    }
+
+    private Header readHeader(final FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.fill(channel, buffer);
+        buffer.flip();
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Plik nie jest plikiem danych binarnych");
+        }
+        final int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Nieobsługiwana wersja pliku binarnego: " + version);
+        }
+        final int rows = buffer.getInt();
+        final int flags = buffer.getInt();
+        final long dataOffset = buffer.getLong();
+        final boolean groups = (flags & FLAG_GROUPS) != 0;
+        final int columnCount = groups ? 3 : 2;
+        if (rows < 0 || dataOffset < HEADER_SIZE || (dataOffset & 7) != 0
+            || dataOffset + (long) columnCount * (Double.BYTES * (long) rows + Long.BYTES * (long) wordCount(rows))
+            > channel.size()) {
+            throw new IOException("Uszkodzony nagłówek pliku binarnego");
+        }
+
+        final ByteBuffer settingsBuffer = ByteBuffer.allocate((int) (dataOffset - HEADER_SIZE))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        this.fill(channel, settingsBuffer);
+        settingsBuffer.flip();
+        final ChartSettingsData chartSettings = (flags & FLAG_CHART_SETTINGS) != 0
+            ? this.decodeSettings(settingsBuffer) : null;
+        final RegressionStatistics statistics = (flags & FLAG_STATISTICS) != 0
+            ? this.decodeStatistics(settingsBuffer, rows) : null;
+        int predictorCount = 1;
+        if ((flags & FLAG_PREDICTORS) != 0) {
+            final int extraPredictors = settingsBuffer.remaining() >= Integer.BYTES ? settingsBuffer.getInt() : -1;
+            if (extraPredictors < 0 || extraPredictors >= MAX_PREDICTORS || dataOffset + (columnCount + (long) extraPredictors)
+                * (Double.BYTES * (long) rows + Long.BYTES * (long) wordCount(rows)) > channel.size()) {
+                throw new IOException("Uszkodzony nagłówek pliku binarnego");
+            }
+            predictorCount += extraPredictors;
+        }
+        return new Header(rows, dataOffset, groups, chartSettings, statistics, predictorCount);
+    }
+
+    static void clearTrailingBits(final long[] words, final int rows) {
+        if ((rows & 63) != 0) {
+            words[rows >>> 6] &= (1L << rows) - 1;
+        }
+    }
+
+    private byte[] encodeSettings(final ChartSettingsData settings) {
+        if (settings == null) {
+            return new byte[0];
+        }
+        final byte[] shape = settings.getPointShapeType() == null
+            ? new byte[0] : settings.getPointShapeType().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES + 3 * Integer.BYTES + 1 + shape.length)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(settings.getPaddingPercent());
+        buffer.putInt(settings.getDataPointColorRgb());
+        buffer.putInt(settings.getRegressionLineColorRgb());
+        buffer.put((byte) (settings.isDashedLine() ? 1 : 0));
+        buffer.putInt(shape.length);
+        buffer.put(shape);
+        return buffer.array();
+    }
+
+    private ChartSettingsData decodeSettings(final ByteBuffer buffer) throws IOException {
+        try {
+            final ChartSettingsData settings = new ChartSettingsData();
+            settings.setPaddingPercent(buffer.getDouble());
+            settings.setDataPointColorRgb(buffer.getInt());
+            settings.setRegressionLineColorRgb(buffer.getInt());
+            settings.setDashedLine(buffer.get() != 0);
+            final byte[] shape = new byte[buffer.getInt()];
+            buffer.get(shape);
+            settings.setPointShapeType(new String(shape, StandardCharsets.UTF_8));
+            return settings;
+        } catch (final RuntimeException exception) {
+            throw new IOException("Uszkodzone ustawienia wykresu w pliku binarnym", exception);
+        }
+    }
+
+    private void encodeStatistics(final ByteBuffer buffer, final RegressionStatistics statistics) {
+        buffer.putLong(statistics.getCount());
+        buffer.putDouble(statistics.getMeanX());
+        buffer.putDouble(statistics.getMeanY());
+        buffer.putDouble(statistics.getSxx());
+        buffer.putDouble(statistics.getSyy());
+        buffer.putDouble(statistics.getSxy());
+    }
+
+    private RegressionStatistics decodeStatistics(final ByteBuffer buffer, final int rows) throws IOException {
+        if (buffer.remaining() < STATISTICS_SIZE) {
+            throw new IOException("Uszkodzone statystyki w pliku binarnym");
+        }
+        final long count = buffer.getLong();
+        final double meanX = buffer.getDouble();
+        final double meanY = buffer.getDouble();
+        final double sxx = buffer.getDouble();
+        final double syy = buffer.getDouble();
+        final double sxy = buffer.getDouble();
+        if (count < 0 || count > rows || !Double.isFinite(meanX + meanY + sxx + syy + sxy)) {
+            throw new IOException("Uszkodzone statystyki w pliku binarnym");
+        }
+        return WelfordStatistics.of(count, meanX, meanY, sxx, syy, sxy);
+    }
+
+    private void writeColumns(final FileChannel channel, final ByteBuffer buffer,
+                              final PointColumns columns, final ProgressListener listener) throws IOException {
+        final int rows = columns.size();
+        for (int row = 0; row < rows; row++) {
+            if (buffer.remaining() < Double.BYTES) {
+                this.flush(channel, buffer);
+                listener.onProgress(row / 2, rows);
+            }
+            buffer.putDouble(columns.getX(row));
+        }
+        for (int row = 0; row < rows; row++) {
+            if (buffer.remaining() < Double.BYTES) {
+                this.flush(channel, buffer);
+                listener.onProgress(((long) rows + row) / 2, rows);
+            }
+            buffer.putDouble(columns.getY(row));
+        }
+        this.writePresence(channel, buffer, columns, 0);
+        this.writePresence(channel, buffer, columns, 1);
+        if (columns.hasGroups()) {
+            for (int row = 0; row < rows; row++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    this.flush(channel, buffer);
+                }
+                buffer.putLong(columns.getGroup(row));
+            }
+            this.writePresence(channel, buffer, columns, 2);
+        }
+    }
+
+    private void writePresence(final FileChannel channel, final ByteBuffer buffer,
+                               final PointColumns columns, final int column) throws IOException {
+        final int rows = columns.size();
+        for (int word = 0; word < wordCount(rows); word++) {
+            long bits = 0L;
+            final int end = Math.min(rows, (word + 1) << 6);
+            for (int row = word << 6; row < end; row++) {
+                final boolean present = column == 0 ? columns.hasX(row)
+                    : column == 1 ? columns.hasY(row) : columns.hasGroup(row);
+                if (present) {
+                    bits |= 1L << row;
+                }
+            }
+            if (buffer.remaining() < Long.BYTES) {
+                this.flush(channel, buffer);
+            }
+            buffer.putLong(bits);
+        }
+    }
+
+    private void writeDoubles(final FileChannel channel, final ByteBuffer buffer, final double[] values,
+                              final int count, final ProgressListener listener,
+                              final long progressBase) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            if (buffer.remaining() < Double.BYTES) {
+                this.flush(channel, buffer);
+                listener.onProgress((progressBase + offset) / 2, count);
+            }
+            final int length = Math.min(count - offset, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, length);
+            buffer.position(buffer.position() + length * Double.BYTES);
+            offset += length;
+        }
+    }
+
+    private void writeLongs(final FileChannel channel, final ByteBuffer buffer,
+                            final long[] values, final int count) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            if (buffer.remaining() < Long.BYTES) {
+                this.flush(channel, buffer);
+            }
+            final int length = Math.min(count - offset, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, length);
+            buffer.position(buffer.position() + length * Long.BYTES);
+            offset += length;
+        }
+    }
+
+    private void readDoubles(final FileChannel channel, final ByteBuffer buffer, final double[] values,
+                             final int count, final ProgressListener listener,
+                             final long progressBase) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            if (buffer.remaining() < Double.BYTES) {
+                listener.onProgress((progressBase + offset) / 2, count);
+                this.refill(channel, buffer);
+            }
+            final int length = Math.min(count - offset, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Double.BYTES);
+            offset += length;
+        }
+    }
+
+    private void readLongs(final FileChannel channel, final ByteBuffer buffer,
+                           final long[] values, final int count) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            if (buffer.remaining() < Long.BYTES) {
+                this.refill(channel, buffer);
+            }
+            final int length = Math.min(count - offset, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Long.BYTES);
+            offset += length;
+        }
+    }
+
+    private void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void refill(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.compact();
+        while (buffer.position() < Long.BYTES) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Nieoczekiwany koniec pliku binarnego");
+            }
+        }
+        buffer.flip();
+    }
+
+    private void skip(final FileChannel channel, final ByteBuffer buffer, final long bytes) throws IOException {
+        final int buffered = (int) Math.min(bytes, buffer.remaining());
+        buffer.position(buffer.position() + buffered);
+        channel.position(channel.position() + bytes - buffered);
+    }
+
+    private void fill(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Nieoczekiwany koniec pliku binarnego");
+            }
+        }
+    }
+
+    private static final class Header {
+
+        private final int rows;
+        private final long dataOffset;
+        private final boolean groups;
+        private final ChartSettingsData chartSettings;
+        private final RegressionStatistics statistics;
+        private final int predictorCount;
+
+        private Header(final int rows, final long dataOffset, final boolean groups,
+                       final ChartSettingsData chartSettings, final RegressionStatistics statistics,
+                       final int predictorCount) {
+            this.rows = rows;
+            this.dataOffset = dataOffset;
+            this.groups = groups;
+            this.chartSettings = chartSettings;
+            this.statistics = statistics;
+            this.predictorCount = predictorCount;
+        }
+    }
+}
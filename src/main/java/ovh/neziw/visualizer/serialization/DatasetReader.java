@@ -0,0 +1,61 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.serialization;
+
+import java.io.File;
+import java.io.IOException;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
+
+public final class DatasetReader {
+
+    public static final long MAPPED_LOAD_THRESHOLD = Long.getLong("visualizer.mappedLoadThreshold", 64L << 20);
+
+    private final JsonDataSerializer serializer;
+    private final BinaryDataSerializer binarySerializer;
+
+    public DatasetReader() {
+        this.serializer = new JsonDataSerializer();
+        this.binarySerializer = new BinaryDataSerializer();
+    }
+
+    public SavedData read(final File file) throws IOException {
+        return this.read(file, ProgressListener.NONE);
+    }
+
+    public SavedData read(final File file, final ProgressListener listener) throws IOException {
+        if (!BinaryDataSerializer.isBinaryFile(file)) {
+            return this.serializer.readFromFile(file, listener);
+        }
+        if (file.length() >= MAPPED_LOAD_THRESHOLD) {
+            return this.binarySerializer.openMapped(file);
+        }
+        return this.binarySerializer.readFromFile(file, listener);
+    }
+
+    public PredictorMatrix readPredictors(final File file) throws IOException {
+        return BinaryDataSerializer.isBinaryFile(file)
+            ? this.binarySerializer.readPredictorsFromFile(file) : this.serializer.readPredictorsFromFile(file);
+    }
+}
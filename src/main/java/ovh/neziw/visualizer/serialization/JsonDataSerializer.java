@@ -25,21 +25,39 @@ package ovh.neziw.visualizer.serialization;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import ovh.neziw.visualizer.DataTableModel;
+import java.util.Arrays;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.ProgressListener;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
 
 public class JsonDataSerializer {
 
+    private static final String DATA_POINTS = "dataPoints";
+    private static final String CHART_SETTINGS = "chartSettings";
+    private static final String X = "x";
+    private static final String Y = "y";
+    private static final String GROUP = "group";
+
     private final Gson gson;
 
     public JsonDataSerializer() {
@@ -49,53 +67,364 @@ public class JsonDataSerializer {
     }
 
     public String serialize(final SavedData savedData) {
-        return this.gson.toJson(savedData);
+        final StringWriter writer = new StringWriter();
+        try {
+            this.write(writer, savedData);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return writer.toString();
     }
 
     public SavedData deserialize(final String json) throws IOException {
-        final JsonElement jsonElement = JsonParser.parseString(json);
+        return this.read(new StringReader(json));
+    }
+
+    public void writeToFile(final File file, final SavedData savedData) throws IOException {
+        this.writeToFile(file, savedData, ProgressListener.NONE);
+    }
+
+    public void writeToFile(final File file, final SavedData savedData,
+                            final ProgressListener listener) throws IOException {
+        AtomicFiles.write(file, path -> {
+            try (final Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(path.toFile()), StandardCharsets.UTF_8))) {
+                this.write(writer, savedData, listener);
+            }
+        });
+    }
+
+    public SavedData readFromFile(final File file) throws IOException {
+        return this.readFromFile(file, ProgressListener.NONE);
+    }
+
+    public SavedData readFromFile(final File file, final ProgressListener listener) throws IOException {
+        try (final Reader reader = new BufferedReader(
+            new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            return this.read(reader, listener);
+        }
+    }
+
+    public void writePredictorsToFile(final File file, final PredictorMatrix matrix) throws IOException {
+        AtomicFiles.write(file, path -> {
+            try (final Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(path.toFile()), StandardCharsets.UTF_8))) {
+                this.writePredictors(writer, matrix);
+            }
+        });
+    }
 
-        if (jsonElement.isJsonArray()) {
-            final Type listType = new TypeToken<List<DataTableModel.DataPoint>>() {
-            }.getType();
-            final List<DataTableModel.DataPoint> dataPoints = this.gson.fromJson(jsonElement, listType);
-            if (dataPoints == null) {
+    public PredictorMatrix readPredictorsFromFile(final File file) throws IOException {
+        try (final Reader reader = new BufferedReader(
+            new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            return this.readPredictors(reader);
+        }
+    }
+
+    public void write(final Writer writer, final SavedData savedData) throws IOException {
+        this.write(writer, savedData, ProgressListener.NONE);
+    }
+
+    public void write(final Writer writer, final SavedData savedData,
+                      final ProgressListener listener) throws IOException {
+        final JsonWriter jsonWriter = this.gson.newJsonWriter(writer);
+        jsonWriter.beginObject();
+        jsonWriter.name(DATA_POINTS);
+        this.writeDataPoints(jsonWriter, savedData.getColumns(), listener);
+        if (savedData.getChartSettings() != null) {
+            jsonWriter.name(CHART_SETTINGS);
+            this.gson.toJson(savedData.getChartSettings(), ChartSettingsData.class, jsonWriter);
+        }
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    // the same document shapes as data points, with "x" either a number or an array of predictors
+    public void writePredictors(final Writer writer, final PredictorMatrix matrix) throws IOException {
+        final JsonWriter jsonWriter = this.gson.newJsonWriter(writer);
+        final int predictorCount = matrix.predictorCount();
+        jsonWriter.beginObject();
+        jsonWriter.name(DATA_POINTS);
+        jsonWriter.beginArray();
+        for (int row = 0; row < matrix.size(); row++) {
+            jsonWriter.beginObject();
+            if (predictorCount == 1) {
+                if (matrix.hasPredictor(row, 0)) {
+                    jsonWriter.name(X).value(matrix.getPredictor(row, 0));
+                }
+            } else {
+                jsonWriter.name(X).beginArray();
+                for (int predictor = 0; predictor < predictorCount; predictor++) {
+                    if (matrix.hasPredictor(row, predictor)) {
+                        jsonWriter.value(matrix.getPredictor(row, predictor));
+                    } else {
+                        jsonWriter.nullValue();
+                    }
+                }
+                jsonWriter.endArray();
+            }
+            if (matrix.hasResponse(row)) {
+                jsonWriter.name(Y).value(matrix.getResponse(row));
+            }
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    public PredictorMatrix readPredictors(final Reader reader) throws IOException {
+        final JsonReader jsonReader = this.gson.newJsonReader(reader);
+        try {
+            final JsonToken token;
+            try {
+                token = jsonReader.peek();
+            } catch (final EOFException exception) {
                 throw new IOException("Plik jest pusty lub ma nieprawidłowy format");
             }
-            return new SavedData(dataPoints, null);
-        } else if (jsonElement.isJsonObject()) {
-            final SavedData savedData = this.gson.fromJson(jsonElement, SavedData.class);
-            if (savedData == null || savedData.getDataPoints() == null) {
+            if (token == JsonToken.BEGIN_ARRAY) {
+                return this.readPredictorRows(jsonReader);
+            } else if (token != JsonToken.BEGIN_OBJECT) {
+                throw new IOException("Plik ma nieprawidłowy format JSON");
+            }
+            PredictorMatrix matrix = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if (DATA_POINTS.equals(jsonReader.nextName()) && jsonReader.peek() != JsonToken.NULL) {
+                    matrix = this.readPredictorRows(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            if (matrix == null) {
                 throw new IOException("Plik jest pusty lub ma nieprawidłowy format");
             }
-            return savedData;
-        } else {
-            throw new IOException("Plik ma nieprawidłowy format JSON");
+            return matrix;
+        } catch (final MalformedJsonException exception) {
+            throw new JsonSyntaxException(exception);
+        } catch (final NumberFormatException exception) {
+            throw numberError(jsonReader, exception);
+        } catch (final IllegalStateException | JsonSyntaxException exception) {
+            throw syntaxError(exception);
         }
     }
 
-    public void writeToFile(final File file, final SavedData savedData) throws IOException {
-        final String json = this.serialize(savedData);
-        try (final FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
-            writer.write(json);
+    public SavedData read(final Reader reader) throws IOException {
+        return this.read(reader, ProgressListener.NONE);
+    }
+
+    public SavedData read(final Reader reader, final ProgressListener listener) throws IOException {
+        final JsonReader jsonReader = this.gson.newJsonReader(reader);
+        try {
+            final JsonToken token;
+            try {
+                token = jsonReader.peek();
+            } catch (final EOFException exception) {
+                throw new IOException("Plik jest pusty lub ma nieprawidłowy format");
+            }
+            if (token == JsonToken.BEGIN_ARRAY) {
+                return new SavedData(this.readDataPoints(jsonReader, listener), null);
+            } else if (token == JsonToken.BEGIN_OBJECT) {
+                return this.readSavedData(jsonReader, listener);
+            } else {
+                throw new IOException("Plik ma nieprawidłowy format JSON");
+            }
+        } catch (final MalformedJsonException exception) {
+            throw new JsonSyntaxException(exception);
+        } catch (final NumberFormatException exception) {
+            throw numberError(jsonReader, exception);
+        } catch (final IllegalStateException | JsonSyntaxException exception) {
+            throw syntaxError(exception);
         }
     }
 
-    public SavedData readFromFile(final File file) throws IOException {
-        final String json = this.readFileContent(file);
-        return this.deserialize(json);
+    // JsonReader reports a token of the wrong type as an IllegalStateException, but a wrapped read
+    // failure (Gson.fromJson turns those into JsonSyntaxException too) is not a syntax error
+    private static JsonSyntaxException syntaxError(final RuntimeException exception) throws IOException {
+        final Throwable cause = exception.getCause();
+        if (cause instanceof IOException && !(cause instanceof MalformedJsonException)) {
+            throw (IOException) cause;
+        }
+        return exception instanceof JsonSyntaxException
+            ? (JsonSyntaxException) exception : new JsonSyntaxException(exception);
+    }
+
+    // nextDouble and nextLong reject a string that is not a number, or a fraction where a long is expected
+    private static JsonSyntaxException numberError(final JsonReader jsonReader,
+                                                   final NumberFormatException exception) {
+        return new JsonSyntaxException("Nieprawidłowa liczba w " + jsonReader.getPath() + ": "
+            + exception.getMessage(), exception);
+    }
+
+    private SavedData readSavedData(final JsonReader jsonReader, final ProgressListener listener)
+        throws IOException {
+        DataColumns columns = null;
+        ChartSettingsData chartSettings = null;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            final String name = jsonReader.nextName();
+            if (DATA_POINTS.equals(name) && jsonReader.peek() != JsonToken.NULL) {
+                columns = this.readDataPoints(jsonReader, listener);
+            } else if (CHART_SETTINGS.equals(name)) {
+                chartSettings = this.gson.fromJson(jsonReader, ChartSettingsData.class);
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        if (columns == null) {
+            throw new IOException("Plik jest pusty lub ma nieprawidłowy format");
+        }
+        return new SavedData(columns, chartSettings);
     }
 
-    private String readFileContent(final File file) throws IOException {
-        try (final FileReader reader = new FileReader(file, StandardCharsets.UTF_8);
-             final BufferedReader bufferedReader = new BufferedReader(reader)) {
+    private DataColumns readDataPoints(final JsonReader jsonReader, final ProgressListener listener)
+        throws IOException {
+        final DataColumns columns = new DataColumns();
+        int row = 0;
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            columns.setSize(row + 1);
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+            } else {
+                this.readDataPoint(jsonReader, columns, row);
+            }
+            if (++row % ProgressListener.REPORT_INTERVAL == 0) {
+                listener.onProgress(row, ProgressListener.UNKNOWN_TOTAL);
+            }
+        }
+        jsonReader.endArray();
+        return columns;
+    }
 
-            final StringBuilder jsonBuilder = new StringBuilder();
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                jsonBuilder.append(line).append("\n");
+    // the predictor count is fixed by the first point that has an "x"; rows before it only add to the size
+    private PredictorMatrix readPredictorRows(final JsonReader jsonReader) throws IOException {
+        PredictorMatrix matrix = null;
+        double[] predictors = new double[1];
+        int row = 0;
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                row++;
+                continue;
+            }
+            int predictorCount = -1;
+            double response = Double.NaN;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                final String name = jsonReader.nextName();
+                if (jsonReader.peek() == JsonToken.NULL) {
+                    jsonReader.nextNull();
+                } else if (X.equals(name) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                    predictorCount = 0;
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext()) {
+                        if (predictorCount == predictors.length) {
+                            predictors = Arrays.copyOf(predictors, predictorCount * 2);
+                        }
+                        predictors[predictorCount++] = readOptionalDouble(jsonReader);
+                    }
+                    jsonReader.endArray();
+                } else if (X.equals(name)) {
+                    predictorCount = 1;
+                    predictors[0] = jsonReader.nextDouble();
+                } else if (Y.equals(name)) {
+                    response = jsonReader.nextDouble();
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            if (matrix == null && predictorCount > 0) {
+                matrix = new PredictorMatrix(predictorCount);
+                matrix.setSize(row);
+            }
+            if (matrix != null) {
+                if (predictorCount > 0 && predictorCount != matrix.predictorCount()) {
+                    throw new IOException("Punkt " + (row + 1) + " ma " + predictorCount
+                        + " predyktorów, oczekiwano " + matrix.predictorCount());
+                }
+                matrix.setSize(row + 1);
+                for (int predictor = 0; predictor < predictorCount; predictor++) {
+                    if (!Double.isNaN(predictors[predictor])) {
+                        matrix.setPredictor(row, predictor, predictors[predictor]);
+                    }
+                }
+                if (!Double.isNaN(response)) {
+                    matrix.setResponse(row, response);
+                }
+            }
+            row++;
+        }
+        jsonReader.endArray();
+        if (matrix == null) {
+            matrix = new PredictorMatrix(1);
+            matrix.setSize(row);
+        }
+        return matrix;
+    }
+
+    private static double readOptionalDouble(final JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return Double.NaN;
+        }
+        return jsonReader.nextDouble();
+    }
+
+    private void readDataPoint(final JsonReader jsonReader, final DataColumns columns, final int row)
+        throws IOException {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            final String name = jsonReader.nextName();
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+            } else if (X.equals(name) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                // a multiple regression dataset shows its first predictor
+                jsonReader.beginArray();
+                if (jsonReader.hasNext() && jsonReader.peek() != JsonToken.NULL) {
+                    columns.setX(row, jsonReader.nextDouble());
+                }
+                while (jsonReader.hasNext()) {
+                    jsonReader.skipValue();
+                }
+                jsonReader.endArray();
+            } else if (X.equals(name)) {
+                columns.setX(row, jsonReader.nextDouble());
+            } else if (Y.equals(name)) {
+                columns.setY(row, jsonReader.nextDouble());
+            } else if (GROUP.equals(name)) {
+                columns.setGroup(row, jsonReader.nextLong());
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+    }
+
+    private void writeDataPoints(final JsonWriter jsonWriter, final PointColumns columns,
+                                 final ProgressListener listener) throws IOException {
+        jsonWriter.beginArray();
+        final int size = columns.size();
+        for (int row = 0; row < size; row++) {
+            jsonWriter.beginObject();
+            if (columns.hasX(row)) {
+                jsonWriter.name(X).value(columns.getX(row));
+            }
+            if (columns.hasY(row)) {
+                jsonWriter.name(Y).value(columns.getY(row));
+            }
+            if (columns.hasGroup(row)) {
+                jsonWriter.name(GROUP).value(columns.getGroup(row));
+            }
+            jsonWriter.endObject();
+            if ((row + 1) % ProgressListener.REPORT_INTERVAL == 0) {
+                listener.onProgress(row + 1, size);
             }
-            return jsonBuilder.toString();
         }
+        jsonWriter.endArray();
     }
 }
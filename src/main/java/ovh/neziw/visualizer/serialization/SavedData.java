@@ -23,28 +23,36 @@
  */
 package ovh.neziw.visualizer.serialization;
 
-import java.util.List;
-import ovh.neziw.visualizer.DataTableModel;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
 
 public class SavedData {
 
-    private List<DataTableModel.DataPoint> dataPoints;
+    private PointColumns columns;
     private ChartSettingsData chartSettings;
+    private RegressionStatistics statistics;
 
     public SavedData() {
     }
 
-    public SavedData(final List<DataTableModel.DataPoint> dataPoints, final ChartSettingsData chartSettings) {
-        this.dataPoints = dataPoints;
+    public SavedData(final PointColumns columns, final ChartSettingsData chartSettings) {
+        this.columns = columns;
         this.chartSettings = chartSettings;
     }
 
-    public List<DataTableModel.DataPoint> getDataPoints() {
-        return this.dataPoints;
+    public SavedData(final PointColumns columns, final ChartSettingsData chartSettings,
+                     final RegressionStatistics statistics) {
+        this.columns = columns;
+        this.chartSettings = chartSettings;
+        this.statistics = statistics;
+    }
+
+    public PointColumns getColumns() {
+        return this.columns;
     }
 
-    public void setDataPoints(final List<DataTableModel.DataPoint> dataPoints) {
-        this.dataPoints = dataPoints;
+    public void setColumns(final PointColumns columns) {
+        this.columns = columns;
     }
 
     public ChartSettingsData getChartSettings() {
@@ -54,5 +62,9 @@ public class SavedData {
     public void setChartSettings(final ChartSettingsData chartSettings) {
         this.chartSettings = chartSettings;
     }
-}
 
+    // the moments stored alongside the data, or null when the file did not carry them
+    public RegressionStatistics getStatistics() {
+        return this.statistics;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class DataColumnsTest {
+
+    // several copy-on-write chunks, the last one partial
+    private static final int ROWS = 10_000;
+
+    private static DataColumns createColumns() {
+        final DataColumns columns = new DataColumns(ROWS);
+        columns.setSize(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            columns.setX(row, row);
+            if (row % 5 != 0) {
+                columns.setY(row, -row);
+            }
+            if (row % 2 == 0) {
+                columns.setGroup(row, row % 3);
+            }
+        }
+        return columns;
+    }
+
+    private static void assertSameColumns(final PointColumns expected, final PointColumns actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.hasGroups(), actual.hasGroups());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.hasX(row), actual.hasX(row), "row " + row);
+            assertEquals(expected.hasY(row), actual.hasY(row), "row " + row);
+            assertEquals(expected.hasGroup(row), actual.hasGroup(row), "row " + row);
+            assertEquals(expected.getX(row), actual.getX(row), "row " + row);
+            assertEquals(expected.getY(row), actual.getY(row), "row " + row);
+            assertEquals(expected.getGroup(row), actual.getGroup(row), "row " + row);
+        }
+        assertEquals(expected.countValid(), actual.countValid());
+    }
+
+    @Test
+    void snapshotIgnoresLaterEdits() {
+        final DataColumns columns = createColumns();
+        final DataColumns expected = columns.copy();
+        final PointColumns snapshot = columns.snapshot();
+        columns.setX(0, 42.0);
+        columns.clearY(4097);
+        columns.setGroup(ROWS - 1, 7L);
+        columns.clearGroup(2);
+        assertSameColumns(expected, snapshot);
+        assertEquals(42.0, columns.getX(0));
+        assertFalse(columns.hasY(4097));
+    }
+
+    @Test
+    void olderSnapshotsSurviveNewerOnes() {
+        final DataColumns columns = createColumns();
+        final DataColumns first = columns.copy();
+        final PointColumns firstSnapshot = columns.snapshot();
+        columns.setY(10, 1.5);
+        final DataColumns second = columns.copy();
+        final PointColumns secondSnapshot = columns.snapshot();
+        // the first snapshot has to find the chunk of row 8000 in the second one
+        columns.setX(8000, -1.0);
+        columns.setY(10, 2.5);
+        final PointColumns thirdSnapshot = columns.snapshot();
+        columns.setSize(100);
+        assertSameColumns(first, firstSnapshot);
+        assertSameColumns(second, secondSnapshot);
+        assertEquals(-1.0, thirdSnapshot.getX(8000));
+        assertEquals(ROWS, thirdSnapshot.size());
+    }
+
+    @Test
+    void reusesSnapshotUntilModified() {
+        final DataColumns columns = createColumns();
+        final PointColumns snapshot = columns.snapshot();
+        assertSame(snapshot, columns.snapshot());
+        columns.setSize(ROWS + 1);
+        assertNotSame(snapshot, columns.snapshot());
+    }
+
+    @Test
+    void snapshotKeepsOldArraysWhenColumnsGrow() {
+        final DataColumns columns = createColumns();
+        final DataColumns expected = columns.copy();
+        final PointColumns snapshot = columns.snapshot();
+        columns.setSize(4 * ROWS);
+        columns.setX(5, 0.25);
+        columns.setY(3 * ROWS, 1.0);
+        columns.clear();
+        assertSameColumns(expected, snapshot);
+    }
+}
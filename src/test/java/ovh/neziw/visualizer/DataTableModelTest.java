@@ -0,0 +1,131 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import org.junit.jupiter.api.Test;
+
+class DataTableModelTest {
+
+    private static List<TableModelEvent> record(final DataTableModel model) {
+        final List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+        return events;
+    }
+
+    private static boolean isStructureChange(final TableModelEvent event) {
+        return event.getFirstRow() == TableModelEvent.HEADER_ROW;
+    }
+
+    @Test
+    void showsGroupColumnOnlyWhenNeeded() {
+        final DataTableModel model = new DataTableModel();
+        final List<TableModelEvent> events = record(model);
+        assertEquals(2, model.getColumnCount());
+
+        model.setGroupColumnRequested(true);
+        assertEquals(3, model.getColumnCount());
+        assertEquals("Grupa", model.getColumnName(2));
+        assertTrue(isStructureChange(events.get(events.size() - 1)));
+
+        model.setGroupColumnRequested(false);
+        assertEquals(2, model.getColumnCount());
+        assertTrue(isStructureChange(events.get(events.size() - 1)));
+    }
+
+    @Test
+    void loadedGroupsShowTheColumn() {
+        final DataTableModel model = new DataTableModel();
+        final List<TableModelEvent> events = record(model);
+        final DataColumns grouped = new DataColumns();
+        grouped.setSize(2);
+        grouped.setX(0, 1.0);
+        grouped.setY(0, 2.0);
+        grouped.setGroup(0, 5L);
+        model.setColumns(grouped);
+        assertEquals(3, model.getColumnCount());
+        assertTrue(isStructureChange(events.get(events.size() - 1)));
+
+        // the column cannot be hidden while there are group keys
+        model.setGroupColumnRequested(false);
+        assertEquals(3, model.getColumnCount());
+
+        final DataColumns plain = new DataColumns();
+        plain.setSize(1);
+        model.setColumns(plain);
+        assertEquals(2, model.getColumnCount());
+        assertFalse(model.isGroupColumnVisible());
+    }
+
+    @Test
+    void batchReplaysStructureChange() {
+        final DataTableModel model = new DataTableModel();
+        final List<TableModelEvent> events = record(model);
+        model.beginBatch();
+        model.setValueAt("1.5", 0, 0);
+        model.setGroupColumnRequested(true);
+        assertTrue(events.isEmpty());
+        model.commitBatch();
+        assertEquals(1, events.size());
+        assertTrue(isStructureChange(events.get(0)));
+    }
+
+    @Test
+    void batchReplaysWholeTableUpdate() {
+        final DataTableModel model = new DataTableModel();
+        final List<TableModelEvent> events = record(model);
+        model.beginBatch();
+        model.setValueAt("1.5", 3, 1);
+        model.fireTableDataChanged();
+        model.commitBatch();
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(Integer.MAX_VALUE, events.get(0).getLastRow());
+    }
+
+    @Test
+    void batchMergesRowsAddedAtTheEnd() {
+        final DataTableModel model = new DataTableModel();
+        final int oldSize = model.getRowCount();
+        final List<TableModelEvent> events = record(model);
+        model.beginBatch();
+        model.setValueAt("2", 1, 0);
+        model.ensureRowCount(oldSize + 10);
+        model.setValueAt("3", oldSize + 5, 1);
+        model.commitBatch();
+        assertEquals(2, events.size());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(1, events.get(0).getFirstRow());
+        assertEquals(oldSize - 1, events.get(0).getLastRow());
+        assertEquals(TableModelEvent.INSERT, events.get(1).getType());
+        assertEquals(oldSize, events.get(1).getFirstRow());
+        assertEquals(oldSize + 9, events.get(1).getLastRow());
+    }
+}
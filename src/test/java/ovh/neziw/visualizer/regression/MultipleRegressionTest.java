@@ -0,0 +1,106 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+
+class MultipleRegressionTest {
+
+    // response, x1, x2; the exact OLS solution is b0 = 189/124, b1 = 2125/992, b2 = -573/992 with RSS = 2013/992
+    private static final double[][] DESIGN = {
+        {3, 1, 2}, {5, 2, 1}, {4, 3, 5}, {9, 4, 3}, {8, 5, 8}, {13, 6, 2}
+    };
+
+    private static PredictorMatrix createDesign() {
+        final PredictorMatrix matrix = new PredictorMatrix(2);
+        for (final double[] row : DESIGN) {
+            matrix.addRow(row[0], row[1], row[2]);
+        }
+        return matrix;
+    }
+
+    @Test
+    void fitsKnownDesign() {
+        final LinearRegressionCalculator.MultipleRegressionResult result =
+            LinearRegressionCalculator.calculate(createDesign());
+        assertNotNull(result);
+        assertEquals(6, result.getCount());
+        assertEquals(3, result.getDegreesOfFreedom());
+        assertEquals(189.0 / 124.0, result.getIntercept(), 1e-12);
+        assertEquals(2125.0 / 992.0, result.getCoefficient(0), 1e-12);
+        assertEquals(-573.0 / 992.0, result.getCoefficient(1), 1e-12);
+        assertEquals(2013.0 / 992.0, result.getResidualSumOfSquares(), 1e-12);
+        assertEquals(0.9710109447004608, result.getRSquared(), 1e-12);
+        assertEquals(0.9516849078341014, result.getAdjustedRSquared(), 1e-12);
+        assertEquals(0.8224422717264602, result.getStandardError(), 1e-12);
+        assertEquals(0.8045609558007577, result.getInterceptStandardError(), 1e-12);
+        assertEquals(0.21374058282314456, result.getCoefficientStandardError(0), 1e-12);
+        assertEquals(0.15448403704886027, result.getCoefficientStandardError(1), 1e-12);
+    }
+
+    @Test
+    void skipsRowsWithMissingValues() {
+        final PredictorMatrix matrix = createDesign();
+        matrix.addRow(Double.NaN, 1.0, 1.0);
+        matrix.addRow(100.0, 1.0, Double.NaN);
+        assertFalse(matrix.isValid(6));
+        assertFalse(matrix.isValid(7));
+        final LinearRegressionCalculator.MultipleRegressionResult result = LinearRegressionCalculator.calculate(matrix);
+        assertEquals(6, result.getCount());
+        assertEquals(2125.0 / 992.0, result.getCoefficient(0), 1e-12);
+    }
+
+    @Test
+    void returnsNullForSingularDesign() {
+        final PredictorMatrix collinear = new PredictorMatrix(2);
+        for (int row = 0; row < 100; row++) {
+            final double x = row * 0.25;
+            collinear.addRow(2.0 * x + 1.0, x, 3.0 * x + 1.0);
+        }
+        assertNull(LinearRegressionCalculator.calculate(collinear));
+
+        final PredictorMatrix tooFew = new PredictorMatrix(2);
+        tooFew.addRow(1.0, 1.0, 2.0);
+        tooFew.addRow(2.0, 3.0, 1.0);
+        assertNull(LinearRegressionCalculator.calculate(tooFew));
+    }
+
+    @Test
+    void rejectsInfiniteValues() {
+        final PredictorMatrix matrix = new PredictorMatrix(2);
+        assertThrows(IllegalArgumentException.class, () -> matrix.addRow(1.0, Double.POSITIVE_INFINITY, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> matrix.addRow(Double.NEGATIVE_INFINITY, 0.0, 0.0));
+        matrix.addRow(1.0, 2.0, 3.0);
+        assertThrows(IllegalArgumentException.class, () -> matrix.setPredictor(0, 1, Double.NaN));
+        assertTrue(matrix.isValid(0));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PowerSumsTest {
+
+    private static final int POINTS = 10_000;
+    // inside the data, where rounding in the sums is not amplified by extrapolating a degree six fit
+    private static final double[] PROBES = {1000.5, 1003.5, 1006.0, 1009.5};
+
+    // a cubic around x = 1000, so every chunk starts from a different shift far from zero
+    private static double[][] createPoints() {
+        final Random random = new Random(42);
+        final double[][] points = new double[POINTS][2];
+        for (int point = 0; point < POINTS; point++) {
+            final double x = 1000.0 + random.nextDouble() * 10.0;
+            final double t = x - 1003.0;
+            points[point][0] = x;
+            points[point][1] = 0.5 * t * t * t - 2.0 * t * t + t + 50.0 + random.nextGaussian();
+        }
+        return points;
+    }
+
+    private static void assertSameFit(final FittedCurve expected, final FittedCurve actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getRSquared(), actual.getRSquared(), 1e-9);
+        for (final double x : PROBES) {
+            final double value = expected.predict(x);
+            assertEquals(value, actual.predict(x), 1e-9 * Math.max(1.0, Math.abs(value)), "x=" + x);
+        }
+    }
+
+    @Test
+    void mergedChunksMatchSinglePass() {
+        final double[][] points = createPoints();
+        final PowerSums single = new PowerSums(PolynomialModel.MAX_DEGREE);
+        for (final double[] point : points) {
+            single.add(point[0], point[1]);
+        }
+        // uneven chunks, including an empty one, merged left to right as the fork/join tasks do
+        final int[] bounds = {0, 1, 1, 700, 4096, 4097, 9000, POINTS};
+        final PowerSums merged = new PowerSums(PolynomialModel.MAX_DEGREE);
+        for (int chunk = 0; chunk + 1 < bounds.length; chunk++) {
+            final PowerSums part = new PowerSums(PolynomialModel.MAX_DEGREE);
+            for (int point = bounds[chunk]; point < bounds[chunk + 1]; point++) {
+                part.add(points[point][0], points[point][1]);
+            }
+            merged.merge(part);
+        }
+        assertEquals(single.getCount(), merged.getCount());
+        for (int degree = 1; degree <= PolynomialModel.MAX_DEGREE; degree++) {
+            final PolynomialCurve expected = single.fit(degree);
+            final PolynomialCurve actual = merged.fit(degree);
+            assertSameFit(expected, actual);
+            assertEquals(expected.getResidualSumOfSquares(), actual.getResidualSumOfSquares(),
+                1e-9 * expected.getResidualSumOfSquares(), "degree=" + degree);
+        }
+    }
+
+    @Test
+    void mergedModelStatisticsMatchSinglePass() {
+        final Random random = new Random(7);
+        final ModelStatistics single = new ModelStatistics();
+        final ModelStatistics left = new ModelStatistics();
+        final ModelStatistics right = new ModelStatistics();
+        for (int point = 0; point < POINTS; point++) {
+            // some points fall outside the log domains, which the transforms skip
+            final double x = random.nextDouble() * 20.0 - 1.0;
+            final double y = 3.0 * Math.exp(0.1 * x) + random.nextGaussian() * 0.1 - 0.5;
+            single.add(x, y);
+            (point % 3 == 0 ? left : right).add(x, y);
+        }
+        left.merge(right);
+        for (final TransformedModel model : TransformedModel.values()) {
+            assertSameFit(model.fit(single), model.fit(left));
+        }
+        assertSameFit(PolynomialModel.of(3).fit(single), PolynomialModel.of(3).fit(left));
+    }
+
+    @Test
+    void mergeWithEmptySumsKeepsTheFit() {
+        final double[][] points = createPoints();
+        final PowerSums sums = new PowerSums(2);
+        for (final double[] point : points) {
+            sums.add(point[0], point[1]);
+        }
+        final PolynomialCurve before = sums.fit(2);
+        sums.merge(new PowerSums(2));
+        assertSameFit(before, sums.fit(2));
+
+        final PowerSums empty = new PowerSums(2);
+        empty.merge(sums);
+        assertSameFit(before, empty.fit(2));
+        assertNull(new PowerSums(2).fit(1));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import ovh.neziw.visualizer.DataColumns;
+
+class RegressionKernelTest {
+
+    // sizes around the 64-row presence words and the vector lanes, so partial words and tails are covered
+    private static final int[] SIZES = {0, 1, 3, 63, 64, 65, 127, 1000, 4099};
+
+    // x around 1000 and y around -50 with every fifth x and every seventh y missing
+    private static DataColumns createColumns(final int size, final long seed) {
+        final Random random = new Random(seed);
+        final DataColumns columns = new DataColumns(size);
+        columns.setSize(size);
+        for (int row = 0; row < size; row++) {
+            if (row % 5 != 2) {
+                columns.setX(row, 1000.0 + random.nextGaussian() * 3.0);
+            }
+            if (row % 7 != 4) {
+                columns.setY(row, -50.0 + random.nextGaussian() * 20.0);
+            }
+        }
+        return columns;
+    }
+
+    private static double[] accumulate(final RegressionKernel kernel, final DataColumns columns,
+                                       final int from, final int to, final double shiftX, final double shiftY) {
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        kernel.accumulate(columns.getXValues(), columns.getYValues(), columns.getXPresent(),
+            columns.getYPresent(), from, to, shiftX, shiftY, sums);
+        return sums;
+    }
+
+    // the sums of the absolute terms, which the kernels' rounding error is relative to
+    private static double[] absoluteSums(final DataColumns columns, final int from, final int to,
+                                         final double shiftX, final double shiftY) {
+        final double[] sums = new double[RegressionKernel.SUMS_LENGTH];
+        for (int row = from; row < to; row++) {
+            if (!columns.isValid(row)) {
+                continue;
+            }
+            final double x = columns.getX(row) - shiftX;
+            final double y = columns.getY(row) - shiftY;
+            sums[RegressionKernel.COUNT]++;
+            sums[RegressionKernel.SUM_X] += Math.abs(x);
+            sums[RegressionKernel.SUM_Y] += Math.abs(y);
+            sums[RegressionKernel.SUM_XY] += Math.abs(x * y);
+            sums[RegressionKernel.SUM_XX] += x * x;
+            sums[RegressionKernel.SUM_YY] += y * y;
+        }
+        return sums;
+    }
+
+    private static void assertWithinBound(final double[] expected, final double[] actual, final double[] absolute,
+                                          final String context) {
+        assertEquals(expected[RegressionKernel.COUNT], actual[RegressionKernel.COUNT], context);
+        final double count = absolute[RegressionKernel.COUNT];
+        for (int sum = RegressionKernel.SUM_X; sum < RegressionKernel.SUMS_LENGTH; sum++) {
+            // the bound documented in the README: n * 2^-52 relative to the sum of absolute terms
+            final double bound = count * Math.ulp(1.0) * absolute[sum];
+            assertEquals(expected[sum], actual[sum], bound, context + " sum=" + sum);
+        }
+    }
+
+    @Test
+    void scalarKernelCountsOnlyPresentPairs() {
+        final DataColumns columns = createColumns(1000, 1);
+        final double[] sums = accumulate(RegressionKernels.scalar(), columns, 0, columns.size(), 0.0, 0.0);
+        assertEquals(columns.countValid(), sums[RegressionKernel.COUNT]);
+    }
+
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        final RegressionKernel vector = RegressionKernels.vector();
+        if (vector == null) {
+            return;
+        }
+        final RegressionKernel scalar = RegressionKernels.scalar();
+        for (final int size : SIZES) {
+            final DataColumns columns = createColumns(size, size);
+            // ranges starting and ending inside a presence word, besides the whole column
+            final int[][] ranges = {{0, size}, {Math.min(size, 3), size}, {Math.min(size, 5), size - size / 3}};
+            for (final int[] range : ranges) {
+                final int from = range[0];
+                final int to = Math.max(from, range[1]);
+                // unshifted sums are dominated by the offset; shifted ones by the spread
+                final double[][] shifts = {{0.0, 0.0}, {1000.0, -50.0}};
+                for (final double[] shift : shifts) {
+                    final String context = "size=" + size + " from=" + from + " to=" + to + " shift=" + shift[0];
+                    assertWithinBound(accumulate(scalar, columns, from, to, shift[0], shift[1]),
+                        accumulate(vector, columns, from, to, shift[0], shift[1]),
+                        absoluteSums(columns, from, to, shift[0], shift[1]), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void parallelAccumulationMatchesSequential() {
+        // large enough to be split into several chunks on a pool with two or more threads
+        final DataColumns columns = createColumns(200_000, 42);
+        for (final RegressionEngine engine : RegressionEngine.values()) {
+            final RegressionStatistics sequential = engine.accumulate(columns, Integer.MAX_VALUE);
+            final RegressionStatistics parallel = engine.accumulate(columns, 1);
+            assertEquals(sequential.getCount(), parallel.getCount(), engine.name());
+            assertEquals(sequential.getMeanX(), parallel.getMeanX(), 1e-12 * Math.abs(sequential.getMeanX()));
+            assertEquals(sequential.getMeanY(), parallel.getMeanY(), 1e-12 * Math.abs(sequential.getMeanY()));
+            // the textbook sums lose the centered moments to cancellation, so their error scales with the raw sums
+            final double n = sequential.getCount();
+            final boolean raw = engine == RegressionEngine.SUMS;
+            final double scaleX = sequential.getSxx() + (raw ? n * sequential.getMeanX() * sequential.getMeanX() : 0.0);
+            final double scaleY = sequential.getSyy() + (raw ? n * sequential.getMeanY() * sequential.getMeanY() : 0.0);
+            assertEquals(sequential.getSxx(), parallel.getSxx(), 1e-12 * scaleX, engine.name());
+            assertEquals(sequential.getSyy(), parallel.getSyy(), 1e-12 * scaleY, engine.name());
+            assertEquals(sequential.getSxy(), parallel.getSxy(), 1e-12 * Math.sqrt(scaleX * scaleY), engine.name());
+        }
+    }
+}
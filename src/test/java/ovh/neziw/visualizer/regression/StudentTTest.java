@@ -0,0 +1,76 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import ovh.neziw.visualizer.LinearRegressionCalculator;
+
+class StudentTTest {
+
+    // two-sided 95% critical values from the standard t table
+    private static final double[] CRITICAL_95 = {
+        12.706204736, 4.302652730, 3.182446305, 2.776445105, 2.570581836,
+        2.446911851, 2.364624252, 2.306004135, 2.262157163, 2.228138852
+    };
+
+    @Test
+    void matchesTableForSmallDegreesOfFreedom() {
+        for (int degreesOfFreedom = 1; degreesOfFreedom <= CRITICAL_95.length; degreesOfFreedom++) {
+            assertEquals(CRITICAL_95[degreesOfFreedom - 1], StudentT.quantile(0.975, degreesOfFreedom), 1e-8,
+                "df=" + degreesOfFreedom);
+        }
+        assertEquals(6.313751515, StudentT.quantile(0.95, 1), 1e-8);
+        assertEquals(63.656741163, StudentT.quantile(0.995, 1), 1e-6);
+        assertEquals(2.042272456, StudentT.quantile(0.975, 30), 1e-8);
+    }
+
+    @Test
+    void approachesNormalQuantileForLargeDegreesOfFreedom() {
+        assertEquals(1.959963985, StudentT.quantile(0.975, 1_000_000_000L), 1e-6);
+    }
+
+    @Test
+    void isSymmetricAroundTheMedian() {
+        assertEquals(0.0, StudentT.quantile(0.5, 3));
+        assertEquals(-StudentT.quantile(0.975, 4), StudentT.quantile(0.025, 4), 1e-12);
+    }
+
+    @Test
+    void rejectsDegenerateArguments() {
+        assertTrue(Double.isNaN(StudentT.quantile(0.975, 0)));
+        assertTrue(Double.isNaN(StudentT.quantile(0.0, 5)));
+        assertTrue(Double.isNaN(StudentT.quantile(1.0, 5)));
+    }
+
+    @Test
+    void resultCarriesCriticalValueForItsDegreesOfFreedom() {
+        final LinearRegressionCalculator.RegressionResult result =
+            new LinearRegressionCalculator.RegressionResult(1.0, 0.0, 5, 0.0, 10.0, 10.0, 1.0);
+        assertEquals(CRITICAL_95[2], result.getCriticalValue(), 1e-8);
+        assertTrue(Double.isNaN(new LinearRegressionCalculator.RegressionResult(1.0, 0.0).getCriticalValue()));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ovh.neziw.visualizer.DataColumns;
+import ovh.neziw.visualizer.PointColumns;
+import ovh.neziw.visualizer.regression.PredictorMatrix;
+import ovh.neziw.visualizer.regression.RegressionEngine;
+import ovh.neziw.visualizer.regression.RegressionStatistics;
+
+class BinaryDataSerializerTest {
+
+    // spans more than one presence word and ends mid-word
+    private static final int ROWS = 200;
+
+    @TempDir
+    Path directory;
+
+    private static DataColumns createColumns() {
+        final DataColumns columns = new DataColumns(ROWS);
+        columns.setSize(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            if (row % 7 != 0) {
+                columns.setX(row, row * 0.5);
+            }
+            if (row % 11 != 0) {
+                columns.setY(row, 3.0 * row - 1.0);
+            }
+            if (row % 3 != 0) {
+                columns.setGroup(row, row % 3 == 1 ? -5L : Long.MAX_VALUE);
+            }
+        }
+        return columns;
+    }
+
+    private static void assertSameColumns(final PointColumns expected, final PointColumns actual) {
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.hasGroups());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.hasX(row), actual.hasX(row));
+            assertEquals(expected.hasY(row), actual.hasY(row));
+            assertEquals(expected.hasGroup(row), actual.hasGroup(row));
+            if (expected.hasX(row)) {
+                assertEquals(expected.getX(row), actual.getX(row));
+            }
+            if (expected.hasY(row)) {
+                assertEquals(expected.getY(row), actual.getY(row));
+            }
+            if (expected.hasGroup(row)) {
+                assertEquals(expected.getGroup(row), actual.getGroup(row));
+            }
+        }
+        assertEquals(expected.countValid(), actual.countValid());
+    }
+
+    private File write(final DataColumns columns) throws IOException {
+        final File file = this.directory.resolve("data." + BinaryDataSerializer.FILE_EXTENSION).toFile();
+        final ChartSettingsData settings = new ChartSettingsData();
+        settings.setPointShapeType("Kwadrat");
+        new BinaryDataSerializer().writeToFile(file, new SavedData(columns, settings));
+        return file;
+    }
+
+    @Test
+    void roundTripsColumnsWithGroups() throws IOException {
+        final DataColumns columns = createColumns();
+        final SavedData loaded = new BinaryDataSerializer().readFromFile(this.write(columns));
+        assertSameColumns(columns, loaded.getColumns());
+        assertEquals("Kwadrat", loaded.getChartSettings().getPointShapeType());
+    }
+
+    @Test
+    void mapsColumnsWithGroups() throws IOException {
+        final DataColumns columns = createColumns();
+        final File file = this.write(columns);
+        assertTrue(BinaryDataSerializer.isBinaryFile(file));
+        assertSameColumns(columns, new BinaryDataSerializer().openMapped(file).getColumns());
+    }
+
+    @Test
+    void storesRegressionMoments() throws IOException {
+        final DataColumns columns = createColumns();
+        final RegressionStatistics expected = RegressionEngine.WELFORD.accumulate(columns);
+        final RegressionStatistics stored = new BinaryDataSerializer().openMapped(this.write(columns))
+            .getStatistics();
+        assertNotNull(stored);
+        assertEquals(expected.getCount(), stored.getCount());
+        assertEquals(expected.getMeanX(), stored.getMeanX());
+        assertEquals(expected.getSxy(), stored.getSxy());
+    }
+
+    @Test
+    void writesColumnsWithoutGroups() throws IOException {
+        final DataColumns columns = new DataColumns();
+        columns.setSize(3);
+        columns.setX(0, 1.0);
+        columns.setY(0, 2.0);
+        columns.setY(2, 4.0);
+        final PointColumns loaded = new BinaryDataSerializer().readFromFile(this.write(columns)).getColumns();
+        assertFalse(loaded.hasGroups());
+        assertEquals(3, loaded.size());
+        assertTrue(loaded.isValid(0));
+        assertFalse(loaded.hasX(2));
+        assertEquals(4.0, loaded.getY(2));
+    }
+
+    @Test
+    void roundTripsPredictors() throws IOException {
+        final PredictorMatrix matrix = new PredictorMatrix(3);
+        for (int row = 0; row < ROWS; row++) {
+            matrix.addRow(row % 11 == 0 ? Double.NaN : row * 2.0, row, row % 7 == 0 ? Double.NaN : -row, 0.5);
+        }
+        final File file = this.directory.resolve("predictors." + BinaryDataSerializer.FILE_EXTENSION).toFile();
+        final BinaryDataSerializer serializer = new BinaryDataSerializer();
+        serializer.writePredictorsToFile(file, matrix);
+        final PredictorMatrix loaded = serializer.readPredictorsFromFile(file);
+        assertEquals(matrix.size(), loaded.size());
+        assertEquals(3, loaded.predictorCount());
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(matrix.isValid(row), loaded.isValid(row));
+            assertEquals(matrix.hasResponse(row), loaded.hasResponse(row));
+            for (int predictor = 0; predictor < 3; predictor++) {
+                assertEquals(matrix.hasPredictor(row, predictor), loaded.hasPredictor(row, predictor));
+                assertEquals(matrix.getPredictor(row, predictor), loaded.getPredictor(row, predictor));
+            }
+        }
+        // the same file still opens as plain X/Y data over the first predictor
+        final PointColumns columns = serializer.readFromFile(file).getColumns();
+        assertEquals(ROWS, columns.size());
+        assertEquals(matrix.getPredictor(5, 0), columns.getX(5));
+        assertEquals(matrix.getResponse(5), columns.getY(5));
+    }
+}
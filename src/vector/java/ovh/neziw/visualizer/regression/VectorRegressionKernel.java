@@ -0,0 +1,87 @@
+/*
+ * This file is part of "linear-regression-visualizer", licensed under MIT License.
+ *
+ *  Copyright (c) 2025 neziw
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package ovh.neziw.visualizer.regression;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorRegressionKernel implements RegressionKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long LANE_BITS = LANES >= 64 ? -1L : (1L << LANES) - 1;
+    private static final RegressionKernel SCALAR_TAIL = RegressionKernels.scalar();
+
+    @Override
+    public void accumulate(final double[] xValues, final double[] yValues,
+                           final long[] xPresent, final long[] yPresent,
+                           final int from, final int to, final double shiftX, final double shiftY,
+                           final double[] sums) {
+        int row = Math.min(to, (from + LANES - 1) / LANES * LANES);
+        SCALAR_TAIL.accumulate(xValues, yValues, xPresent, yPresent, from, row, shiftX, shiftY, sums);
+
+        long count = 0;
+        DoubleVector sumX = DoubleVector.zero(SPECIES);
+        DoubleVector sumY = DoubleVector.zero(SPECIES);
+        DoubleVector sumXY = DoubleVector.zero(SPECIES);
+        DoubleVector sumXX = DoubleVector.zero(SPECIES);
+        DoubleVector sumYY = DoubleVector.zero(SPECIES);
+        final int vectorEnd = row + (to - row) / LANES * LANES;
+        for (; row < vectorEnd; row += LANES) {
+            final int word = row >>> 6;
+            final long bits = ((xPresent[word] & yPresent[word]) >>> (row & 63)) & LANE_BITS;
+            if (bits == 0) {
+                continue;
+            }
+            final DoubleVector x;
+            final DoubleVector y;
+            if (bits == LANE_BITS) {
+                count += LANES;
+                x = DoubleVector.fromArray(SPECIES, xValues, row).sub(shiftX);
+                y = DoubleVector.fromArray(SPECIES, yValues, row).sub(shiftY);
+            } else {
+                count += Long.bitCount(bits);
+                final VectorMask<Double> mask = VectorMask.fromLong(SPECIES, bits);
+                // absent lanes load as zero and must stay zero, so only the present lanes are shifted
+                x = DoubleVector.fromArray(SPECIES, xValues, row, mask).sub(shiftX, mask);
+                y = DoubleVector.fromArray(SPECIES, yValues, row, mask).sub(shiftY, mask);
+            }
+            sumX = sumX.add(x);
+            sumY = sumY.add(y);
+            sumXY = x.fma(y, sumXY);
+            sumXX = x.fma(x, sumXX);
+            sumYY = y.fma(y, sumYY);
+        }
+        sums[COUNT] += count;
+        sums[SUM_X] += sumX.reduceLanes(VectorOperators.ADD);
+        sums[SUM_Y] += sumY.reduceLanes(VectorOperators.ADD);
+        sums[SUM_XY] += sumXY.reduceLanes(VectorOperators.ADD);
+        sums[SUM_XX] += sumXX.reduceLanes(VectorOperators.ADD);
+        sums[SUM_YY] += sumYY.reduceLanes(VectorOperators.ADD);
+
+        SCALAR_TAIL.accumulate(xValues, yValues, xPresent, yPresent, row, to, shiftX, shiftY, sums);
+    }
+}